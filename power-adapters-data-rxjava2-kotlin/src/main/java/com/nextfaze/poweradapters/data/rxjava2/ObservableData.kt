@@ -101,6 +101,8 @@ private class KObservableData<T : Any>(
     private var clear: Boolean = false
     private var loading: Boolean = false
     private var available = Integer.MAX_VALUE
+    private val loadingKey = Any()
+    private val availableKey = Any()
 
     private val listUpdateCallback = object : ListUpdateCallback {
         override fun onChanged(position: Int, count: Int, payload: Any?) =
@@ -196,7 +198,7 @@ private class KObservableData<T : Any>(
     }
 
     private fun setLoading(loading: Boolean) {
-        runOnUiThread {
+        runOnUiThread(loadingKey) {
             if (this.loading != loading) {
                 this.loading = loading
                 notifyLoadingChanged()
@@ -205,7 +207,7 @@ private class KObservableData<T : Any>(
     }
 
     private fun setAvailable(available: Int) {
-        runOnUiThread {
+        runOnUiThread(availableKey) {
             if (this.available != available) {
                 this.available = available
                 notifyAvailableChanged()
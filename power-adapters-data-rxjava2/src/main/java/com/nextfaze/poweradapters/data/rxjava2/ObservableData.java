@@ -2,6 +2,7 @@ package com.nextfaze.poweradapters.data.rxjava2;
 
 import com.nextfaze.poweradapters.data.Data;
 import com.nextfaze.poweradapters.rxjava2.EqualityFunction;
+import com.nextfaze.poweradapters.rxjava2.Patch;
 import com.nextfaze.poweradapters.rxjava2.internal.DiffList;
 
 import java.util.Collection;
@@ -17,6 +18,9 @@ import io.reactivex.functions.Function;
 @SuppressWarnings("WeakerAccess")
 final class ObservableData<T> extends Data<T> {
 
+    private static final Object LOADING_KEY = new Object();
+    private static final Object AVAILABLE_KEY = new Object();
+
     @NonNull
     private static final Consumer<Object> EMPTY_CONSUMER = new Consumer<Object>() {
         @Override
@@ -39,6 +43,9 @@ final class ObservableData<T> extends Data<T> {
     @Nullable
     final Observable<? extends Collection<? extends T>> mAppendsObservable;
 
+    @Nullable
+    final Observable<? extends Patch<? extends T>> mPatchesObservable;
+
     @NonNull
     final Observable<Integer> mAvailableObservable;
 
@@ -57,6 +64,7 @@ final class ObservableData<T> extends Data<T> {
     ObservableData(@Nullable Observable<? extends Collection<? extends T>> contentsObservable,
                    @Nullable Observable<? extends Collection<? extends T>> prependsObservable,
                    @Nullable Observable<? extends Collection<? extends T>> appendsObservable,
+                   @Nullable Observable<? extends Patch<? extends T>> patchesObservable,
                    @NonNull Observable<Integer> availableObservable,
                    @NonNull Observable<Boolean> loadingObservable,
                    @NonNull Observable<Throwable> errorObservable,
@@ -66,6 +74,7 @@ final class ObservableData<T> extends Data<T> {
         mContentsObservable = contentsObservable;
         mPrependsObservable = prependsObservable;
         mAppendsObservable = appendsObservable;
+        mPatchesObservable = patchesObservable;
         mAvailableObservable = availableObservable;
         mLoadingObservable = loadingObservable;
         mErrorObservable = errorObservable;
@@ -129,6 +138,17 @@ final class ObservableData<T> extends Data<T> {
                 }).subscribe(onNext, onError));
             }
 
+            // Patches
+            if (mPatchesObservable != null) {
+                // Patches are positional, so every one must be applied, in order.
+                mDisposables.add(mPatchesObservable.concatMap(new Function<Patch<? extends T>, Observable<?>>() {
+                    @Override
+                    public Observable<?> apply(Patch<? extends T> patch) throws Exception {
+                        return mList.patch(patch).toObservable();
+                    }
+                }).subscribe(onNext, onError));
+            }
+
             // Loading
             mDisposables.add(mLoadingObservable.subscribe(new Consumer<Boolean>() {
                 @Override
@@ -166,7 +186,7 @@ final class ObservableData<T> extends Data<T> {
     }
 
     void setLoading(final boolean loading) {
-        runOnUiThread(new Runnable() {
+        runOnUiThread(LOADING_KEY, new Runnable() {
             @Override
             public void run() {
                 if (mLoading != loading) {
@@ -178,7 +198,7 @@ final class ObservableData<T> extends Data<T> {
     }
 
     void setAvailable(final int available) {
-        runOnUiThread(new Runnable() {
+        runOnUiThread(AVAILABLE_KEY, new Runnable() {
             @Override
             public void run() {
                 if (mAvailable != available) {
@@ -2,6 +2,7 @@ package com.nextfaze.poweradapters.data.rxjava2;
 
 import com.nextfaze.poweradapters.data.Data;
 import com.nextfaze.poweradapters.rxjava2.EqualityFunction;
+import com.nextfaze.poweradapters.rxjava2.Patch;
 
 import java.util.Collection;
 
@@ -25,6 +26,9 @@ public final class ObservableDataBuilder<T> {
     @Nullable
     private Observable<? extends Collection<? extends T>> mAppends;
 
+    @Nullable
+    private Observable<? extends Patch<? extends T>> mPatches;
+
     @Nullable
     private Observable<Integer> mAvailable;
 
@@ -71,6 +75,20 @@ public final class ObservableDataBuilder<T> {
         return this;
     }
 
+    /**
+     * Each emission of this observable is applied to the elements of the data at the positions it describes. No diff is
+     * computed, and only the notifications implied by each patch are dispatched.
+     * <p>
+     * Patches are applied in the order they're emitted. A patch describing positions outside the current bounds of the
+     * data results in an error.
+     * @see Patch
+     */
+    @NonNull
+    public ObservableDataBuilder<T> patches(@Nullable Observable<? extends Patch<? extends T>> patches) {
+        mPatches = patches;
+        return this;
+    }
+
     /**
      * The {@link Data#available()} property will match the emissions of this observable, starting with
      * {@code Integer.MAX_VALUE} until the first emission.
@@ -80,6 +98,7 @@ public final class ObservableDataBuilder<T> {
      * @see #contents(Observable)
      * @see #prepends(Observable)
      * @see #appends(Observable)
+     * @see #patches(Observable)
      */
     @NonNull
     public ObservableDataBuilder<T> available(@Nullable Observable<Integer> available) {
@@ -96,6 +115,7 @@ public final class ObservableDataBuilder<T> {
      * @see #contents(Observable)
      * @see #prepends(Observable)
      * @see #appends(Observable)
+     * @see #patches(Observable)
      */
     @NonNull
     public ObservableDataBuilder<T> loading(@Nullable Observable<Boolean> loading) {
@@ -150,11 +170,13 @@ public final class ObservableDataBuilder<T> {
                 mPrepends != null ? mPrepends.share() : Observable.<Collection<T>>empty();
         Observable<? extends Collection<? extends T>> appends =
                 mAppends != null ? mAppends.share() : Observable.<Collection<T>>empty();
+        Observable<? extends Patch<? extends T>> patches =
+                mPatches != null ? mPatches.share() : Observable.<Patch<T>>empty();
         Observable<Integer> available = mAvailable;
         Observable<Boolean> loading = mLoading;
         Observable<Throwable> errors = mErrors;
         // Emits the first content emission, suppressing any errors, as they'll be reported anyway.
-        Observable<?> mergedContentSources = Observable.merge(contents, prepends, appends)
+        Observable<?> mergedContentSources = Observable.merge(contents, prepends, appends, patches)
                 .onErrorResumeNext(Observable.<Collection<? extends T>>empty())
                 .take(1);
         if (available == null) {
@@ -191,7 +213,7 @@ public final class ObservableDataBuilder<T> {
         if (errors == null) {
             errors = Observable.empty();
         }
-        return new ObservableData<>(contents, prepends, appends, available, loading, errors, mIdentityEqualityFunction,
-                mContentEqualityFunction, mDetectMoves);
+        return new ObservableData<>(contents, prepends, appends, patches, available, loading, errors,
+                mIdentityEqualityFunction, mContentEqualityFunction, mDetectMoves);
     }
 }
@@ -7,9 +7,11 @@ import com.nextfaze.poweradapters.data.Data;
 import com.nextfaze.poweradapters.data.ErrorObserver;
 import com.nextfaze.poweradapters.data.LoadingObserver;
 import com.nextfaze.poweradapters.rxjava2.ChangeEvent;
+import com.nextfaze.poweradapters.rxjava2.EventBatch;
 import com.nextfaze.poweradapters.rxjava2.InsertEvent;
 import com.nextfaze.poweradapters.rxjava2.MoveEvent;
 import com.nextfaze.poweradapters.rxjava2.RemoveEvent;
+import com.nextfaze.poweradapters.rxjava2.internal.EventBatcher;
 
 import androidx.annotation.CheckResult;
 import androidx.annotation.NonNull;
@@ -240,6 +242,32 @@ public final class RxData {
         });
     }
 
+    /**
+     * Emits all change notifications of the specified {@link Data} using a single observer. Notifications received
+     * within the same main thread loop iteration are coalesced where possible, and emitted together as one
+     * {@link EventBatch}.
+     */
+    @CheckResult
+    @NonNull
+    public static Observable<EventBatch> events(@NonNull final Data<?> data) {
+        checkNotNull(data, "data");
+        return Observable.create(new ObservableOnSubscribe<EventBatch>() {
+            @Override
+            public void subscribe(final ObservableEmitter<EventBatch> emitter) throws Exception {
+                verifyMainThread();
+                final EventBatcher batcher = new EventBatcher(emitter);
+                data.registerDataObserver(batcher);
+                emitter.setDisposable(new MainThreadDisposable() {
+                    @Override
+                    protected void onDispose() {
+                        data.unregisterDataObserver(batcher);
+                        batcher.dispose();
+                    }
+                });
+            }
+        });
+    }
+
     static class Observer extends SimpleDataObserver {
         @Override
         public void onChanged() {
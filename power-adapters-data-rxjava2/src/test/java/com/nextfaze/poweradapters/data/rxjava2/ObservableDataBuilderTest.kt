@@ -4,6 +4,7 @@ package com.nextfaze.poweradapters.data.rxjava2
 
 import com.google.common.truth.Truth.assertThat
 import com.nextfaze.poweradapters.data.test.test
+import com.nextfaze.poweradapters.rxjava2.Patch
 import com.nextfaze.poweradapters.test.ChangeEvent
 import com.nextfaze.poweradapters.test.InsertEvent
 import com.nextfaze.poweradapters.test.MoveEvent
@@ -86,6 +87,55 @@ class ObservableDataBuilderTest {
                 )
     }
 
+    @Test fun `data content changes match patches observable emissions`() {
+        ObservableDataBuilder<String>()
+                .patches(Observable.just(
+                        Patch.insert(0, listOf("a", "b", "c")),
+                        Patch.change(1, listOf("x"), null),
+                        Patch.move(0, 1, 2),
+                        Patch.remove(0, 1)
+                ))
+                .build()
+                .test()
+                .assertElementValues(
+                        listOf(),
+                        listOf("a", "b", "c"),
+                        listOf("a", "x", "c"),
+                        listOf("c", "a", "x"),
+                        listOf("a", "x")
+                )
+    }
+
+    @Test fun `patches dispatch only the notifications they describe`() {
+        val payload = Any()
+        ObservableDataBuilder<String>()
+                .patches(Observable.just(
+                        Patch.insert(0, listOf("a", "b", "c", "d")),
+                        Patch.change(2, listOf("x", "y"), payload),
+                        Patch.move(3, 0, 1),
+                        Patch.remove(1, 2)
+                ))
+                .build()
+                .test()
+                .assertChangeNotifications(
+                        InsertEvent(0, 4),
+                        ChangeEvent(2, 2, payload),
+                        MoveEvent(3, 0, 1),
+                        RemoveEvent(1, 2)
+                )
+                .assertElements("y", "x")
+    }
+
+    @Test fun `out of bounds patch leaves data unchanged`() {
+        ObservableDataBuilder<String>()
+                .patches(Observable.just(Patch.remove<String>(0, 1)))
+                .build()
+                .test {
+                    assertSize(0)
+                    assertNotificationsConsistent()
+                }
+    }
+
     @Test fun `data available matches available observable`() {
         ObservableDataBuilder<String>()
                 .available(Observable.just(5))
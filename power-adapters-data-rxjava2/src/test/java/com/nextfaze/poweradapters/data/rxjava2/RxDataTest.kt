@@ -2,9 +2,13 @@ package com.nextfaze.poweradapters.data.rxjava2
 
 import com.nextfaze.poweradapters.data.test.FakeData
 import com.nextfaze.poweradapters.rxjava2.ChangeEvent
+import com.nextfaze.poweradapters.rxjava2.EventBatch
 import com.nextfaze.poweradapters.rxjava2.InsertEvent
 import com.nextfaze.poweradapters.rxjava2.MoveEvent
 import com.nextfaze.poweradapters.rxjava2.RemoveEvent
+import io.reactivex.android.plugins.RxAndroidPlugins
+import io.reactivex.schedulers.TestScheduler
+import org.junit.After
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -14,9 +18,16 @@ import org.robolectric.RobolectricTestRunner
 class RxDataTest {
 
     private lateinit var data: FakeData<String>
+    private lateinit var mainThreadScheduler: TestScheduler
 
     @Before fun setUp() {
         data = FakeData()
+        mainThreadScheduler = TestScheduler()
+        RxAndroidPlugins.setMainThreadSchedulerHandler { mainThreadScheduler }
+    }
+
+    @After fun tearDown() {
+        RxAndroidPlugins.reset()
     }
 
     @Test fun size() {
@@ -54,6 +65,17 @@ class RxDataTest {
         testObserver.assertNotTerminated().assertValues(MoveEvent(1, 2, 1))
     }
 
+    @Test fun events() {
+        val testObserver = RxData.events(data).test()
+        data.add("a")
+        data.add("b")
+        data[0] = "c"
+        testObserver.assertNoValues()
+        mainThreadScheduler.triggerActions()
+        testObserver.assertNotTerminated()
+                .assertValues(EventBatch(false, listOf(InsertEvent(0, 2), ChangeEvent(0, 1, null))))
+    }
+
     @Test fun loading() {
         val testObserver = RxData.loading(data).test()
         data.loading = true
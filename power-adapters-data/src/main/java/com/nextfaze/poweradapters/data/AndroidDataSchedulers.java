@@ -0,0 +1,46 @@
+package com.nextfaze.poweradapters.data;
+
+import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.ExecutorService;
+
+import androidx.annotation.NonNull;
+
+final class AndroidDataSchedulers extends DataSchedulers {
+
+    /** Lazily initialized by class loading, so the Android framework isn't touched if other schedulers are set. */
+    @NonNull
+    static final AndroidDataSchedulers INSTANCE = new AndroidDataSchedulers();
+
+    @NonNull
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+
+    @NonNull
+    private final ExecutorService mBackgroundExecutor = (ExecutorService) AsyncTask.THREAD_POOL_EXECUTOR;
+
+    private AndroidDataSchedulers() {
+    }
+
+    @Override
+    public boolean isUiThread() {
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
+    @Override
+    public void postToUiThread(@NonNull Runnable runnable) {
+        mHandler.post(runnable);
+    }
+
+    @Override
+    public void removeFromUiThread(@NonNull Runnable runnable) {
+        mHandler.removeCallbacks(runnable);
+    }
+
+    @NonNull
+    @Override
+    public ExecutorService backgroundExecutor() {
+        return mBackgroundExecutor;
+    }
+}
@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters.data;
 
+import com.nextfaze.poweradapters.ChangePayloadFunction;
 import com.nextfaze.poweradapters.internal.NotifyingArrayList;
 
 import java.io.Closeable;
@@ -10,6 +11,9 @@ import java.util.concurrent.ExecutorService;
 import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
 
 /**
  * Simple mutable {@link Data} implementation backed by an {@link ArrayList}. Cannot contain {@code null} elements. Not
@@ -22,6 +26,12 @@ public abstract class ArrayData<T> extends SimpleData<T, List<? extends T>> impl
     @NonNull
     private final NotifyingArrayList<T> mData = new NotifyingArrayList<>(mDataObservable);
 
+    @Nullable
+    private volatile DataCache mCache;
+
+    @Nullable
+    private volatile String mCacheKey;
+
     protected ArrayData() {
         this(DataExecutors.defaultExecutor());
     }
@@ -38,6 +48,32 @@ public abstract class ArrayData<T> extends SimpleData<T, List<? extends T>> impl
         mData.trimToSize();
     }
 
+    /**
+     * Sets a cache in which the last loaded elements are stored. While empty, this data presents the cached elements
+     * as soon as it's observed, and the fresh elements are applied over them as a diff once loaded. Disabled by
+     * default.
+     * @param cache The cache, or {@code null} to disable caching.
+     * @param key Identifies the elements of this data within the cache. Required if {@code cache} is non-null.
+     */
+    @UiThread
+    public final void setCache(@Nullable DataCache cache, @Nullable String key) {
+        if (cache != null) {
+            checkNotNull(key, "key");
+        }
+        mCache = cache;
+        mCacheKey = key;
+    }
+
+    /**
+     * Sets a function that computes the payload of change notifications when a reloaded element replaces an unequal
+     * one at the same position, allowing binders to partially rebind views. Elements are then compared with the
+     * existing ones on reload, so only those that differ are notified as changed. Disabled by default.
+     */
+    @UiThread
+    public final void setChangePayloadFunction(@Nullable ChangePayloadFunction<? super T> changePayloadFunction) {
+        mData.setChangePayloadFunction(changePayloadFunction);
+    }
+
     @Override
     public final int size() {
         return mData.size();
@@ -59,22 +95,69 @@ public abstract class ArrayData<T> extends SimpleData<T, List<? extends T>> impl
         return mData;
     }
 
+    /** Shares the elements with the snapshot until they're next modified, rather than copying them. */
+    @NonNull
+    @Override
+    public final List<T> snapshot() {
+        return mData.snapshot();
+    }
+
     /** Called in a background thread to load the data set. */
     @NonNull
     protected abstract List<? extends T> load() throws Throwable;
 
+    @CallSuper
+    @Override
+    protected void onFirstDataObserverRegistered() {
+        super.onFirstDataObserverRegistered();
+        DataCache cache = mCache;
+        String key = mCacheKey;
+        if (cache != null && key != null) {
+            presentCached(cache.peek(key));
+        }
+    }
+
     @NonNull
     @Override
     final List<? extends T> loadDataSet() throws Throwable {
-        return load();
+        DataCache cache = mCache;
+        String key = mCacheKey;
+        if (cache != null && key != null) {
+            // Elements weren't available immediately, so look further while the fresh ones are loading.
+            final List<?> cached = cache.read(key);
+            if (cached != null) {
+                runOnUiThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        presentCached(cached);
+                    }
+                });
+            }
+        }
+        List<? extends T> elements = load();
+        if (cache != null && key != null) {
+            cache.write(key, elements);
+        }
+        return elements;
     }
 
     @Override
     final void onNewDataSet(@Nullable List<? extends T> newDataSet) {
         if (newDataSet != null) {
-            mData.replaceAll(newDataSet);
+            if (mCache != null || mData.getChangePayloadFunction() != null) {
+                mData.replaceAllWithDiff(newDataSet);
+            } else {
+                mData.replaceAll(newDataSet);
+            }
         } else {
             mData.clear();
         }
     }
+
+    @SuppressWarnings("unchecked")
+    void presentCached(@Nullable List<?> cached) {
+        if (cached != null && mData.isEmpty() && isLoading()) {
+            mData.replaceAll((List<? extends T>) cached);
+        }
+    }
 }
@@ -1,23 +1,27 @@
 package com.nextfaze.poweradapters.data;
 
-import android.os.Handler;
-
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
-import static android.os.Looper.getMainLooper;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 final class CoalescingPoster {
 
-    @NonNull
-    private final Handler mHandler = new Handler(getMainLooper());
+    /** Maximum time spent running tasks in a single flush, after which the remainder is deferred to the next one. */
+    private static final long FLUSH_BUDGET_NANOS = MILLISECONDS.toNanos(8);
 
     @NonNull
     private final Queue<Runnable> mRunnableQueue = new ConcurrentLinkedQueue<>();
 
+    /** Latest pending slot for each key. Slots superseded by a later post for the same key are skipped. */
+    @NonNull
+    private final ConcurrentHashMap<Object, Runnable> mKeyedRunnables = new ConcurrentHashMap<>();
+
     @NonNull
     private final Runnable mFlushRunnable = new Runnable() {
         @Override
@@ -29,22 +33,64 @@ final class CoalescingPoster {
     @NonNull
     private final AtomicBoolean mPosted = new AtomicBoolean();
 
+    /** The schedulers the pending flush was posted to, if any. */
+    @Nullable
+    private volatile DataSchedulers mSchedulers;
+
     void post(@NonNull Runnable runnable) {
         mRunnableQueue.offer(runnable);
-        if (mPosted.compareAndSet(false, true)) {
-            mHandler.post(mFlushRunnable);
-        }
+        schedule();
+    }
+
+    /**
+     * Posts a task that supersedes any task with the same key that hasn't run yet. The task runs in the queue position
+     * of this post, after any tasks posted before it, so only the latest state for each key is applied per flush.
+     */
+    void post(@NonNull final Object key, @NonNull final Runnable runnable) {
+        Runnable slot = new Runnable() {
+            @Override
+            public void run() {
+                // Skipped if a later post for the same key has superseded this one.
+                if (mKeyedRunnables.remove(key, this)) {
+                    runnable.run();
+                }
+            }
+        };
+        mKeyedRunnables.put(key, slot);
+        mRunnableQueue.offer(slot);
+        schedule();
     }
 
     void dispose() {
-        mHandler.removeCallbacks(mFlushRunnable);
+        DataSchedulers schedulers = mSchedulers;
+        if (schedulers != null) {
+            schedulers.removeFromUiThread(mFlushRunnable);
+        }
+        mPosted.set(false);
     }
 
     void flush() {
+        // Cleared before draining, so tasks posted concurrently are guaranteed to be picked up by some flush.
+        mPosted.set(false);
+        long deadline = System.nanoTime() + FLUSH_BUDGET_NANOS;
         Runnable runnable;
         while ((runnable = mRunnableQueue.poll()) != null) {
             runnable.run();
+            if (System.nanoTime() - deadline >= 0) {
+                // Out of time for this frame; let the looper draw before continuing.
+                if (!mRunnableQueue.isEmpty()) {
+                    schedule();
+                }
+                return;
+            }
+        }
+    }
+
+    private void schedule() {
+        if (mPosted.compareAndSet(false, true)) {
+            DataSchedulers schedulers = DataSchedulers.get();
+            mSchedulers = schedulers;
+            schedulers.postToUiThread(mFlushRunnable);
         }
-        mPosted.set(false);
     }
 }
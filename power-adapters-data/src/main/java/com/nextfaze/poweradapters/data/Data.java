@@ -2,7 +2,6 @@ package com.nextfaze.poweradapters.data;
 
 import android.database.Cursor;
 import android.database.DataSetObserver;
-import android.os.Looper;
 
 import com.nextfaze.poweradapters.DataObserver;
 import com.nextfaze.poweradapters.Predicate;
@@ -10,6 +9,7 @@ import com.nextfaze.poweradapters.RowMapper;
 import com.nextfaze.poweradapters.internal.DataObservable;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -26,6 +26,7 @@ import androidx.annotation.UiThread;
 import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
 import static com.nextfaze.poweradapters.data.ImmutableData.emptyImmutableData;
 import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+import static java.util.Collections.unmodifiableList;
 
 /**
  * Provides access to a (possibly asynchronously loaded) list of elements.
@@ -78,6 +79,22 @@ public abstract class Data<T> implements Iterable<T> {
     @NonNull
     private final CoalescingPoster mPoster = new CoalescingPoster();
 
+    @NonNull
+    private final Runnable mNotifyAvailableChanged = new Runnable() {
+        @Override
+        public void run() {
+            mAvailableObservable.notifyAvailableChanged();
+        }
+    };
+
+    @NonNull
+    private final Runnable mNotifyLoadingChanged = new Runnable() {
+        @Override
+        public void run() {
+            mLoadingObservable.notifyLoadingChanged();
+        }
+    };
+
     /**
      * Retrieve the element at the specified position. Equivalent to calling {@link #get(int, int)} without any flags.
      * @param position The position at which to retrieve the value.
@@ -401,31 +418,30 @@ public abstract class Data<T> implements Iterable<T> {
         mDataObservable.notifyItemRangeRemoved(positionStart, itemCount);
     }
 
-    /** Dispatch a available change notification on the UI thread. */
+    /**
+     * Dispatch a available change notification on the UI thread. Multiple notifications dispatched from other threads
+     * before the UI thread gets to them are delivered only once.
+     */
     protected final void notifyAvailableChanged() {
-        runOnUiThread(new Runnable() {
-            @Override
-            public void run() {
-                mAvailableObservable.notifyAvailableChanged();
-            }
-        });
+        runOnUiThread(mNotifyAvailableChanged, mNotifyAvailableChanged);
     }
 
-    /** Dispatch a loading change notification on the UI thread. */
+    /**
+     * Dispatch a loading change notification on the UI thread. Multiple notifications dispatched from other threads
+     * before the UI thread gets to them are delivered only once.
+     */
     protected final void notifyLoadingChanged() {
-        runOnUiThread(new Runnable() {
-            @Override
-            public void run() {
-                mLoadingObservable.notifyLoadingChanged();
-            }
-        });
+        runOnUiThread(mNotifyLoadingChanged, mNotifyLoadingChanged);
     }
 
-    /** Dispatch an error notification on the UI thread. */
+    /**
+     * Dispatch an error notification on the UI thread. If multiple errors are dispatched from other threads before the
+     * UI thread gets to them, only the latest is delivered.
+     */
     protected final void notifyError(@NonNull final Throwable e) {
         //noinspection ThrowableResultOfMethodCallIgnored
         checkNotNull(e, "e");
-        runOnUiThread(new Runnable() {
+        runOnUiThread(mErrorObservable, new Runnable() {
             @Override
             public void run() {
                 mErrorObservable.notifyError(e);
@@ -436,13 +452,30 @@ public abstract class Data<T> implements Iterable<T> {
     /** Runs a task on the UI thread. If caller thread is the UI thread, the task is executed immediately. */
     protected final void runOnUiThread(@NonNull Runnable runnable) {
         checkNotNull(runnable, "runnable");
-        if (Looper.myLooper() == Looper.getMainLooper()) {
+        if (DataSchedulers.get().isUiThread()) {
             runnable.run();
         } else {
             mPoster.post(runnable);
         }
     }
 
+    /**
+     * Runs a task on the UI thread, superseding any task posted with an equal {@code key} that hasn't run yet. Use
+     * this for state updates where only the latest value matters. If caller thread is the UI thread, the task is
+     * executed immediately.
+     * @param key Identifies the state being updated. Keys are scoped to this data instance.
+     * @param runnable The task to run.
+     */
+    protected final void runOnUiThread(@NonNull Object key, @NonNull Runnable runnable) {
+        checkNotNull(key, "key");
+        checkNotNull(runnable, "runnable");
+        if (DataSchedulers.get().isUiThread()) {
+            runnable.run();
+        } else {
+            mPoster.post(key, runnable);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @CheckResult
     @NonNull
@@ -511,6 +544,25 @@ public abstract class Data<T> implements Iterable<T> {
         return mList;
     }
 
+    /**
+     * Returns an immutable snapshot of the current elements. Unlike this {@link Data}, the snapshot can be read from
+     * any thread, and doesn't change as this data changes, so it can be handed to background work such as indexing or
+     * prefetching. By default the elements are copied, but array backed implementations share them with the snapshot
+     * until they're next modified, so taking a snapshot is cheap.
+     * @return An immutable list of the elements, which is safe to read from any thread.
+     */
+    @UiThread
+    @CheckResult
+    @NonNull
+    public List<T> snapshot() {
+        int size = size();
+        ArrayList<T> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(get(i));
+        }
+        return unmodifiableList(elements);
+    }
+
     /**
      * Creates a {@link Data} whose elements will be populated by invoking the specified loader function in a
      * worker thread.
@@ -543,6 +595,50 @@ public abstract class Data<T> implements Iterable<T> {
         };
     }
 
+    /**
+     * Creates a {@link Data} whose elements will be populated by invoking the specified loader function in a
+     * worker thread. Concurrent loads by any data created with an equal {@code key} are collapsed into a single
+     * invocation of the loader, the result of which is presented by all of them.
+     * @param key Identifies the source of the elements, such as an endpoint URL.
+     * @param loader The function to be invoked to load the list of elements. The returned list is shared, so it must
+     * not be mutated.
+     * @param <T> The type of element presented by the returned data.
+     * @return A {@linkplain Data} instance that will present the elements retrieved via the loader function.
+     * @see SharedLoads
+     */
+    @NonNull
+    public static <T> Data<T> fromSharedList(@NonNull Object key, @NonNull Callable<List<? extends T>> loader) {
+        return fromSharedList(key, loader, DataExecutors.defaultExecutor());
+    }
+
+    /**
+     * Creates a {@link Data} whose elements will be populated by invoking the specified loader function in a
+     * worker thread with the specified {@link ExecutorService}. Concurrent loads by any data created with an equal
+     * {@code key} are collapsed into a single invocation of the loader, the result of which is presented by all of
+     * them.
+     * @param key Identifies the source of the elements, such as an endpoint URL.
+     * @param loader The function to be invoked to load the list of elements. The returned list is shared, so it must
+     * not be mutated.
+     * @param executor The {@linkplain ExecutorService} used to invoke the loader function.
+     * @param <T> The type of element presented by the returned data.
+     * @return A {@linkplain Data} instance that will present the elements retrieved via the loader function.
+     * @see SharedLoads
+     */
+    @NonNull
+    public static <T> Data<T> fromSharedList(@NonNull final Object key,
+                                             @NonNull final Callable<List<? extends T>> loader,
+                                             @NonNull ExecutorService executor) {
+        checkNotNull(key, "key");
+        checkNotNull(loader, "loader");
+        return new ArrayData<T>(executor) {
+            @NonNull
+            @Override
+            protected List<? extends T> load() throws Throwable {
+                return SharedLoads.shared().load(key, loader);
+            }
+        };
+    }
+
     /**
      * Creates a {@linkplain Data} that presents elements of a {@link Cursor} retrieved by invoking the specified loader
      * function in a worker thread. {@link T} instances are mapped using the specified row mapper function.
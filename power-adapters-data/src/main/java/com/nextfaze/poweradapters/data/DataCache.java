@@ -0,0 +1,41 @@
+package com.nextfaze.poweradapters.data;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+import androidx.annotation.WorkerThread;
+
+/**
+ * Stores the last known elements of {@link Data} instances, so they can be presented immediately the next time the
+ * data is observed, while fresh elements are loaded.
+ * <p>
+ * Implementations must be thread-safe. Cached lists are shared, so they must not be mutated.
+ * @see DataCaches
+ * @see ArrayData#setCache(DataCache, String)
+ * @see IncrementalArrayData#setCache(DataCache, String)
+ */
+public interface DataCache {
+
+    /**
+     * Returns the elements cached under the specified key, if they're available without blocking I/O, such as from
+     * memory.
+     * @return The cached elements, or {@code null} if none are immediately available.
+     */
+    @UiThread
+    @Nullable
+    List<?> peek(@NonNull String key);
+
+    /**
+     * Returns the elements cached under the specified key, performing blocking I/O if necessary.
+     * @return The cached elements, or {@code null} if none are cached.
+     */
+    @WorkerThread
+    @Nullable
+    List<?> read(@NonNull String key);
+
+    /** Replaces the elements cached under the specified key. */
+    @WorkerThread
+    void write(@NonNull String key, @NonNull List<?> elements);
+}
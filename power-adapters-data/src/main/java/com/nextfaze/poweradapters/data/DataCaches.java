@@ -0,0 +1,232 @@
+package com.nextfaze.poweradapters.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+
+/** Static factory methods for creating {@link DataCache} instances. */
+public final class DataCaches {
+
+    private DataCaches() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns a cache that holds the elements of up to {@code maxEntries} keys in memory, evicting the least recently
+     * used.
+     */
+    @NonNull
+    public static DataCache memory(int maxEntries) {
+        return new MemoryCache(maxEntries);
+    }
+
+    /**
+     * Returns a cache that persists elements to files in the specified directory, such as a subdirectory of
+     * {@code Context.getCacheDir()}. Elements must be {@link java.io.Serializable}. Unreadable entries are treated as
+     * absent.
+     */
+    @NonNull
+    public static DataCache disk(@NonNull File directory) {
+        return new DiskCache(checkNotNull(directory, "directory"));
+    }
+
+    /**
+     * Returns a cache that holds up to {@code maxEntries} keys in memory, backed by files in the specified directory.
+     * Elements read from disk are promoted to memory.
+     * @see #memory(int)
+     * @see #disk(File)
+     */
+    @NonNull
+    public static DataCache memoryAndDisk(int maxEntries, @NonNull File directory) {
+        return new TieredCache(memory(maxEntries), disk(directory));
+    }
+
+    private static final class MemoryCache implements DataCache {
+
+        @NonNull
+        private final Map<String, List<?>> mEntries;
+
+        MemoryCache(final int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be at least 1");
+            }
+            mEntries = new LinkedHashMap<String, List<?>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, List<?>> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        @Nullable
+        @Override
+        public synchronized List<?> peek(@NonNull String key) {
+            return mEntries.get(key);
+        }
+
+        @Nullable
+        @Override
+        public List<?> read(@NonNull String key) {
+            return peek(key);
+        }
+
+        @Override
+        public synchronized void write(@NonNull String key, @NonNull List<?> elements) {
+            mEntries.put(key, Collections.unmodifiableList(new ArrayList<>(elements)));
+        }
+    }
+
+    private static final class DiskCache implements DataCache {
+
+        @NonNull
+        private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+        @NonNull
+        private final File mDirectory;
+
+        DiskCache(@NonNull File directory) {
+            mDirectory = directory;
+        }
+
+        @Nullable
+        @Override
+        public List<?> peek(@NonNull String key) {
+            // Never block the UI thread on disk.
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public List<?> read(@NonNull String key) {
+            File file = file(key);
+            if (!file.exists()) {
+                return null;
+            }
+            ObjectInputStream in = null;
+            try {
+                in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+                return Collections.unmodifiableList((List<?>) in.readObject());
+            } catch (Exception e) {
+                // Corrupt or incompatible entry, so discard it.
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+                return null;
+            } finally {
+                closeQuietly(in);
+            }
+        }
+
+        @Override
+        public void write(@NonNull String key, @NonNull List<?> elements) {
+            File file = file(key);
+            File temp = new File(mDirectory, file.getName() + ".tmp");
+            ObjectOutputStream out = null;
+            try {
+                //noinspection ResultOfMethodCallIgnored
+                mDirectory.mkdirs();
+                out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+                out.writeObject(new ArrayList<>(elements));
+                out.close();
+                out = null;
+                // Rename so readers never see a partially written entry.
+                if (!temp.renameTo(file)) {
+                    //noinspection ResultOfMethodCallIgnored
+                    temp.delete();
+                }
+            } catch (IOException e) {
+                // Caching is best-effort.
+                //noinspection ResultOfMethodCallIgnored
+                temp.delete();
+            } finally {
+                closeQuietly(out);
+            }
+        }
+
+        @NonNull
+        private File file(@NonNull String key) {
+            return new File(mDirectory, hash(key));
+        }
+
+        @NonNull
+        private static String hash(@NonNull String key) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(UTF_8));
+                StringBuilder sb = new StringBuilder(digest.length * 2);
+                for (byte b : digest) {
+                    sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+                    sb.append(Character.forDigit(b & 0xF, 16));
+                }
+                return sb.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        private static void closeQuietly(@Nullable Closeable closeable) {
+            if (closeable != null) {
+                try {
+                    closeable.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private static final class TieredCache implements DataCache {
+
+        @NonNull
+        private final DataCache mMemory;
+
+        @NonNull
+        private final DataCache mDisk;
+
+        TieredCache(@NonNull DataCache memory, @NonNull DataCache disk) {
+            mMemory = memory;
+            mDisk = disk;
+        }
+
+        @Nullable
+        @Override
+        public List<?> peek(@NonNull String key) {
+            return mMemory.peek(key);
+        }
+
+        @Nullable
+        @Override
+        public List<?> read(@NonNull String key) {
+            List<?> elements = mMemory.read(key);
+            if (elements == null) {
+                elements = mDisk.read(key);
+                if (elements != null) {
+                    mMemory.write(key, elements);
+                }
+            }
+            return elements;
+        }
+
+        @Override
+        public void write(@NonNull String key, @NonNull List<?> elements) {
+            mMemory.write(key, elements);
+            mDisk.write(key, elements);
+        }
+    }
+}
@@ -15,7 +15,7 @@ final class DataCondition<T> extends Condition {
     private final DataObserver mDataObserver = new SimpleDataObserver() {
         @Override
         public void onChanged() {
-            notifyChanged();
+            updateValue();
         }
     };
 
@@ -23,7 +23,7 @@ final class DataCondition<T> extends Condition {
     private final LoadingObserver mLoadingObserver = new LoadingObserver() {
         @Override
         public void onLoadingChange() {
-            DataCondition.this.notifyChanged();
+            updateValue();
         }
     };
 
@@ -31,7 +31,7 @@ final class DataCondition<T> extends Condition {
     private final AvailableObserver mAvailableObserver = new AvailableObserver() {
         @Override
         public void onAvailableChange() {
-            notifyChanged();
+            updateValue();
         }
     };
 
@@ -39,7 +39,7 @@ final class DataCondition<T> extends Condition {
     private final ErrorObserver mErrorObserver = new ErrorObserver() {
         @Override
         public void onError(@NonNull Throwable e) {
-            notifyChanged();
+            updateValue();
         }
     };
 
@@ -49,6 +49,9 @@ final class DataCondition<T> extends Condition {
     @NonNull
     private final Predicate<? super Data<? extends T>> mPredicate;
 
+    /** The last evaluated result, only valid while observed. */
+    private boolean mValue;
+
     DataCondition(@NonNull Data<? extends T> data, @NonNull Predicate<? super Data<? extends T>> predicate) {
         mPredicate = checkNotNull(predicate, "predicate");
         mData = checkNotNull(data, "data");
@@ -66,6 +69,7 @@ final class DataCondition<T> extends Condition {
         mData.registerLoadingObserver(mLoadingObserver);
         mData.registerAvailableObserver(mAvailableObserver);
         mData.registerErrorObserver(mErrorObserver);
+        mValue = eval();
     }
 
     @Override
@@ -76,4 +80,13 @@ final class DataCondition<T> extends Condition {
         mData.unregisterAvailableObserver(mAvailableObserver);
         mData.unregisterErrorObserver(mErrorObserver);
     }
+
+    /** Notifies only if the result has actually changed, rather than for every data event. */
+    void updateValue() {
+        boolean value = eval();
+        if (value != mValue) {
+            mValue = value;
+            notifyChanged();
+        }
+    }
 }
@@ -1,22 +1,42 @@
 package com.nextfaze.poweradapters.data;
 
-import android.os.AsyncTask;
-
 import java.util.concurrent.ExecutorService;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 public final class DataExecutors {
 
-    private static final ExecutorService DEFAULT = (ExecutorService) AsyncTask.THREAD_POOL_EXECUTOR;
+    private static final int CPU_COUNT = Runtime.getRuntime().availableProcessors();
+
+    /** Same thread count as the core pool size of {@link android.os.AsyncTask#THREAD_POOL_EXECUTOR}. */
+    private static final int PRIORITIZED_THREAD_COUNT = Math.max(2, Math.min(CPU_COUNT - 1, 4));
+
+    @Nullable
+    private static PrioritizedDataExecutor sPrioritized;
 
     private DataExecutors() {
         throw new AssertionError();
     }
 
-    /** Returns the default {@link ExecutorService} used by some {@link Data} instances. */
+    /**
+     * Returns the default {@link ExecutorService} used by some {@link Data} instances.
+     * @see DataSchedulers#backgroundExecutor()
+     */
     @NonNull
     public static ExecutorService defaultExecutor() {
-        return DEFAULT;
+        return DataSchedulers.get().backgroundExecutor();
+    }
+
+    /**
+     * Returns a shared {@link PrioritizedDataExecutor}, which runs loads for observed {@link Data} instances ahead of
+     * those for unobserved ones. Queued loads for data that becomes unobserved are demoted, not cancelled.
+     */
+    @NonNull
+    public static synchronized PrioritizedDataExecutor prioritizedExecutor() {
+        if (sPrioritized == null) {
+            sPrioritized = new PrioritizedDataExecutor(PRIORITIZED_THREAD_COUNT, false);
+        }
+        return sPrioritized;
     }
 }
@@ -0,0 +1,75 @@
+package com.nextfaze.poweradapters.data;
+
+import java.util.concurrent.ExecutorService;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+
+/**
+ * Defines the threads {@link Data} instances use: the UI thread, on which all notifications are dispatched, and the
+ * default background executor used for loading.
+ * <p>
+ * By default, the Android main thread and {@link android.os.AsyncTask#THREAD_POOL_EXECUTOR} are used. Use
+ * {@link #set(DataSchedulers)} with {@link #jvm()} to run data outside of Android, such as in benchmarks or load tests
+ * on a desktop JVM.
+ */
+public abstract class DataSchedulers {
+
+    @Nullable
+    private static volatile DataSchedulers sSchedulers;
+
+    /** Returns the schedulers currently used by all {@link Data} instances. */
+    @NonNull
+    public static DataSchedulers get() {
+        DataSchedulers schedulers = sSchedulers;
+        return schedulers != null ? schedulers : AndroidDataSchedulers.INSTANCE;
+    }
+
+    /**
+     * Sets the schedulers used by all {@link Data} instances. Should be called before any data is created, since the
+     * background executor is typically captured at construction.
+     * @param schedulers The schedulers to use, or {@code null} to restore the default Android schedulers.
+     */
+    public static void set(@Nullable DataSchedulers schedulers) {
+        sSchedulers = schedulers;
+    }
+
+    /** Returns the default schedulers, which use the Android main thread and a shared background thread pool. */
+    @NonNull
+    public static DataSchedulers android() {
+        return AndroidDataSchedulers.INSTANCE;
+    }
+
+    /**
+     * Returns new schedulers that don't depend on the Android framework. A dedicated daemon thread acts as the UI
+     * thread, and loading is performed by a cached pool of daemon threads.
+     */
+    @NonNull
+    public static DataSchedulers jvm() {
+        return new JvmDataSchedulers(JvmDataSchedulers.newDefaultBackgroundExecutor());
+    }
+
+    /**
+     * Returns new schedulers that don't depend on the Android framework. A dedicated daemon thread acts as the UI
+     * thread, and loading is performed by the specified executor.
+     */
+    @NonNull
+    public static DataSchedulers jvm(@NonNull ExecutorService backgroundExecutor) {
+        return new JvmDataSchedulers(checkNotNull(backgroundExecutor, "backgroundExecutor"));
+    }
+
+    /** Returns whether the calling thread is the UI thread. */
+    public abstract boolean isUiThread();
+
+    /** Enqueues a task to be run on the UI thread, even if the caller is already on the UI thread. */
+    public abstract void postToUiThread(@NonNull Runnable runnable);
+
+    /** Removes a pending task previously enqueued with {@link #postToUiThread(Runnable)}, if it hasn't run yet. */
+    public abstract void removeFromUiThread(@NonNull Runnable runnable);
+
+    /** Returns the executor used for loading by {@link Data} instances that aren't given one explicitly. */
+    @NonNull
+    public abstract ExecutorService backgroundExecutor();
+}
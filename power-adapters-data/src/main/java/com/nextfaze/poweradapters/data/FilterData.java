@@ -47,7 +47,7 @@ public final class FilterData<T> extends DataWrapper<T> {
     public void setPredicate(@NonNull Predicate<? super T> predicate) {
         if (!equal(predicate, mPredicate)) {
             mPredicate = predicate;
-            changeIndexRange(0, mData.size(), false, true, true);
+            changeIndexRange(0, mData.size(), false, true, true, null);
         }
     }
 
@@ -90,17 +90,17 @@ public final class FilterData<T> extends DataWrapper<T> {
     }
 
     private void rebuild() {
-        changeIndexRange(0, mData.size(), false, false, false);
+        changeIndexRange(0, mData.size(), false, false, false, null);
     }
 
     @Override
     protected void forwardChanged() {
-        changeIndexRange(0, mData.size(), true, true, true);
+        changeIndexRange(0, mData.size(), true, true, true, null);
     }
 
     @Override
     protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
-        changeIndexRange(innerPositionStart, innerItemCount, true, true, true);
+        changeIndexRange(innerPositionStart, innerItemCount, true, true, true, payload);
     }
 
     @Override
@@ -116,7 +116,7 @@ public final class FilterData<T> extends DataWrapper<T> {
     @Override
     protected void forwardItemRangeMoved(int innerFromPosition, int innerToPosition, int innerItemCount) {
         // TODO: Fine-grained notifications for moves.
-        changeIndexRange(0, mData.size(), false, false, false);
+        changeIndexRange(0, mData.size(), false, false, false, null);
         notifyDataSetChanged();
     }
 
@@ -124,7 +124,8 @@ public final class FilterData<T> extends DataWrapper<T> {
                                   final int itemCount,
                                   final boolean notifyChanges,
                                   final boolean notifyInsertions,
-                                  final boolean notifyRemovals) {
+                                  final boolean notifyRemovals,
+                                  @Nullable final Object payload) {
         for (int innerPosition = innerPositionStart; innerPosition < innerPositionStart + itemCount; innerPosition++) {
             T t = mData.get(innerPosition);
             boolean include = apply(t);
@@ -135,7 +136,7 @@ public final class FilterData<T> extends DataWrapper<T> {
                 if (include) {
                     // Item should be included. Notify of a change.
                     if (notifyChanges) {
-                        notifyItemChanged(i, null);
+                        notifyItemChanged(i, payload);
                     }
                 } else {
                     // Item shouldn't be included. Remove mapping and notify of removal.
@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters.data;
 
+import com.nextfaze.poweradapters.ChangePayloadFunction;
 import com.nextfaze.poweradapters.internal.NotifyingArrayList;
 
 import java.io.Closeable;
@@ -31,6 +32,9 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
 
     private static final ThreadFactory DEFAULT_THREAD_FACTORY = new NamedThreadFactory("Incremental Array Data Thread %d");
 
+    private static final Object LOADING_KEY = new Object();
+    private static final Object AVAILABLE_KEY = new Object();
+
     @NonNull
     private final NotifyingArrayList<T> mData = new NotifyingArrayList<>(mDataObservable);
 
@@ -52,6 +56,12 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
     /** Indicates the last attempt to load a page failed. */
     private volatile boolean mError;
 
+    @Nullable
+    private volatile DataCache mCache;
+
+    @Nullable
+    private volatile String mCacheKey;
+
     boolean mLoading;
     int mAvailable = Integer.MAX_VALUE;
     private boolean mDirty = true;
@@ -123,6 +133,32 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
         proceed();
     }
 
+    /**
+     * Sets a cache in which the first increment of loaded elements is stored. While empty, this data presents the
+     * cached elements as soon as it's observed, and the fresh first increment is applied over them as a diff once
+     * loaded. Disabled by default.
+     * @param cache The cache, or {@code null} to disable caching.
+     * @param key Identifies the elements of this data within the cache. Required if {@code cache} is non-null.
+     */
+    @UiThread
+    public final void setCache(@Nullable DataCache cache, @Nullable String key) {
+        if (cache != null) {
+            checkNotNull(key, "key");
+        }
+        mCache = cache;
+        mCacheKey = key;
+    }
+
+    /**
+     * Sets a function that computes the payload of change notifications when a reloaded element replaces an unequal
+     * one at the same position, allowing binders to partially rebind views. Elements are then compared with the
+     * existing ones on reload, so only those that differ are notified as changed. Disabled by default.
+     */
+    @UiThread
+    public final void setChangePayloadFunction(@Nullable ChangePayloadFunction<? super T> changePayloadFunction) {
+        mData.setChangePayloadFunction(changePayloadFunction);
+    }
+
     @UiThread
     public final int getLookAheadRowCount() {
         return mLookAheadRowCount;
@@ -154,6 +190,13 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
         return mData;
     }
 
+    /** Shares the elements with the snapshot until they're next modified, rather than copying them. */
+    @NonNull
+    @Override
+    public final List<T> snapshot() {
+        return mData.snapshot();
+    }
+
     @CallSuper
     @Override
     protected void onFirstDataObserverRegistered() {
@@ -168,6 +211,11 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
             mData.clear();
         }
         startThreadIfNeeded();
+        DataCache cache = mCache;
+        String key = mCacheKey;
+        if (cache != null && key != null) {
+            presentCached(cache.peek(key));
+        }
     }
 
     /**
@@ -229,6 +277,7 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
     private void loadLoop() throws InterruptedException {
         boolean firstItem = true;
         boolean moreAvailable = true;
+        readCache();
 
         // Loop until all loaded.
         while (moreAvailable) {
@@ -241,6 +290,9 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
 
                 // Load next increment of items.
                 final Result<? extends T> result = load();
+                if (firstItem && result != null) {
+                    writeCache(result.getElements());
+                }
                 moreAvailable = result != null && result.getRemaining() > 0;
                 setAvailable(result != null ? result.getRemaining() : 0);
 
@@ -286,15 +338,51 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
     void overwriteResult(@NonNull List<? extends T> result) {
         mClear = false;
         onClear();
-        mData.replaceAll(result);
+        if (mCache != null || mData.getChangePayloadFunction() != null) {
+            mData.replaceAllWithDiff(result);
+        } else {
+            mData.replaceAll(result);
+        }
     }
 
     void appendResult(@NonNull List<? extends T> result) {
         mData.addAll(result);
     }
 
+    @SuppressWarnings("unchecked")
+    void presentCached(@Nullable List<?> cached) {
+        if (cached != null && mData.isEmpty() && mLoading) {
+            mData.replaceAll((List<? extends T>) cached);
+        }
+    }
+
+    /** Looks further for cached elements, if they weren't available immediately. */
+    private void readCache() {
+        DataCache cache = mCache;
+        String key = mCacheKey;
+        if (cache != null && key != null) {
+            final List<?> cached = cache.read(key);
+            if (cached != null) {
+                runOnUiThread(new Runnable() {
+                    @Override
+                    public void run() {
+                        presentCached(cached);
+                    }
+                });
+            }
+        }
+    }
+
+    private void writeCache(@NonNull List<?> elements) {
+        DataCache cache = mCache;
+        String key = mCacheKey;
+        if (cache != null && key != null) {
+            cache.write(key, elements);
+        }
+    }
+
     void setLoading(final boolean loading) {
-        runOnUiThread(new Runnable() {
+        runOnUiThread(LOADING_KEY, new Runnable() {
             @Override
             public void run() {
                 if (mLoading != loading) {
@@ -306,7 +394,7 @@ public abstract class IncrementalArrayData<T> extends Data<T> implements Closeab
     }
 
     private void setAvailable(final int available) {
-        runOnUiThread(new Runnable() {
+        runOnUiThread(AVAILABLE_KEY, new Runnable() {
             @Override
             public void run() {
                 if (mAvailable != available) {
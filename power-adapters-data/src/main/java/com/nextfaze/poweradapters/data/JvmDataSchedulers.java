@@ -0,0 +1,74 @@
+package com.nextfaze.poweradapters.data;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+final class JvmDataSchedulers extends DataSchedulers {
+
+    @NonNull
+    private final ThreadPoolExecutor mUiExecutor;
+
+    @NonNull
+    private final ExecutorService mBackgroundExecutor;
+
+    @Nullable
+    private volatile Thread mUiThread;
+
+    JvmDataSchedulers(@NonNull ExecutorService backgroundExecutor) {
+        mBackgroundExecutor = backgroundExecutor;
+        mUiExecutor = new ThreadPoolExecutor(1, 1, 0, SECONDS, new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(@NonNull Runnable runnable) {
+                        Thread thread = new Thread(runnable, "Data UI Thread");
+                        thread.setDaemon(true);
+                        mUiThread = thread;
+                        return thread;
+                    }
+                });
+        mUiExecutor.prestartCoreThread();
+    }
+
+    @NonNull
+    static ExecutorService newDefaultBackgroundExecutor() {
+        final ThreadFactory threadFactory = new NamedThreadFactory("Data Background Thread %d");
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, SECONDS, new SynchronousQueue<Runnable>(),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(@NonNull Runnable runnable) {
+                        Thread thread = threadFactory.newThread(runnable);
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
+
+    @Override
+    public boolean isUiThread() {
+        return Thread.currentThread() == mUiThread;
+    }
+
+    @Override
+    public void postToUiThread(@NonNull Runnable runnable) {
+        mUiExecutor.execute(runnable);
+    }
+
+    @Override
+    public void removeFromUiThread(@NonNull Runnable runnable) {
+        mUiExecutor.remove(runnable);
+    }
+
+    @NonNull
+    @Override
+    public ExecutorService backgroundExecutor() {
+        return mBackgroundExecutor;
+    }
+}
@@ -1,11 +1,14 @@
 package com.nextfaze.poweradapters.data;
 
+import java.util.List;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import static java.lang.Math.abs;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
+import static java.util.Collections.unmodifiableList;
 
 final class LimitData<T> extends DataWrapper<T> {
 
@@ -58,6 +61,13 @@ final class LimitData<T> extends DataWrapper<T> {
         return min(super.size(), mLimit);
     }
 
+    @NonNull
+    @Override
+    public List<T> snapshot() {
+        List<? extends T> snapshot = mData.snapshot();
+        return unmodifiableList(snapshot.subList(0, min(snapshot.size(), mLimit)));
+    }
+
     @Override
     protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
         if (innerItemCount > 0 && innerPositionStart < mLimit) {
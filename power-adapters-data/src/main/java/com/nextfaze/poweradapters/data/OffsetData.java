@@ -1,11 +1,14 @@
 package com.nextfaze.poweradapters.data;
 
+import java.util.List;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import static java.lang.Math.abs;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
+import static java.util.Collections.unmodifiableList;
 
 final class OffsetData<T> extends DataWrapper<T> {
 
@@ -53,6 +56,13 @@ final class OffsetData<T> extends DataWrapper<T> {
         return max(0, super.size() - mOffset);
     }
 
+    @NonNull
+    @Override
+    public List<T> snapshot() {
+        List<? extends T> snapshot = mData.snapshot();
+        return unmodifiableList(snapshot.subList(min(mOffset, snapshot.size()), snapshot.size()));
+    }
+
     @Override
     protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
         if (innerPositionStart + innerItemCount > mOffset) {
@@ -0,0 +1,407 @@
+package com.nextfaze.poweradapters.data;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService} with a bounded number of threads, that runs load tasks of
+ * {@link Data} instances with registered data observers ahead of those without.
+ * <p>
+ * {@link ArrayData} and {@link CursorData} instances constructed with this executor report changes in their observed
+ * state to it. Queued tasks of data instances that are no longer observed are demoted behind all other work, or
+ * cancelled if {@code cancelUnobserved} is {@code true}, in which case the data loads again once observed. Tasks
+ * submitted through the regular {@link java.util.concurrent.ExecutorService} methods are treated as observed.
+ * <p>
+ * Queue depth and wait time metrics are exposed for monitoring.
+ * @see DataExecutors#prioritizedExecutor()
+ */
+public final class PrioritizedDataExecutor extends AbstractExecutorService {
+
+    @NonNull
+    private final ReentrantLock mLock = new ReentrantLock();
+
+    @NonNull
+    private final Condition mNotEmpty = mLock.newCondition();
+
+    @NonNull
+    private final Condition mTerminated = mLock.newCondition();
+
+    /** Tasks of observed data instances, in submission order. */
+    @NonNull
+    private final ArrayDeque<Task> mForegroundQueue = new ArrayDeque<>();
+
+    /** Tasks of unobserved data instances, in submission order. */
+    @NonNull
+    private final ArrayDeque<Task> mBackgroundQueue = new ArrayDeque<>();
+
+    /** Data instances currently known to be unobserved. Weakly held, so abandoned data can be collected. */
+    @NonNull
+    private final Set<Data<?>> mUnobserved = Collections.newSetFromMap(new WeakHashMap<Data<?>, Boolean>());
+
+    @NonNull
+    private final List<Thread> mThreads = new ArrayList<>();
+
+    @NonNull
+    private final ThreadFactory mThreadFactory;
+
+    private final int mMaxThreadCount;
+
+    private final boolean mCancelUnobserved;
+
+    private int mIdleThreadCount;
+
+    private int mRunningThreadCount;
+
+    private boolean mShutdown;
+
+    private long mStartedTaskCount;
+
+    private long mTotalWaitNanos;
+
+    private long mMaxWaitNanos;
+
+    public PrioritizedDataExecutor(int maxThreadCount, boolean cancelUnobserved) {
+        this(maxThreadCount, cancelUnobserved, new NamedThreadFactory("Prioritized Data Thread %d"));
+    }
+
+    public PrioritizedDataExecutor(int maxThreadCount,
+                                   boolean cancelUnobserved,
+                                   @NonNull ThreadFactory threadFactory) {
+        if (maxThreadCount <= 0) {
+            throw new IllegalArgumentException("maxThreadCount must be at least 1");
+        }
+        mMaxThreadCount = maxThreadCount;
+        mCancelUnobserved = cancelUnobserved;
+        mThreadFactory = checkNotNull(threadFactory, "threadFactory");
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        checkNotNull(command, "command");
+        enqueue(new Task(command, null));
+    }
+
+    /**
+     * Submits a load task on behalf of the specified data, prioritized according to whether it's currently observed.
+     * @return A future representing the pending task.
+     */
+    @NonNull
+    public Future<?> submit(@NonNull Data<?> data, @NonNull Runnable task) {
+        checkNotNull(data, "data");
+        checkNotNull(task, "task");
+        Task t = new Task(task, data);
+        enqueue(t);
+        return t;
+    }
+
+    /** Returns the number of tasks waiting to run. */
+    public int getQueueDepth() {
+        mLock.lock();
+        try {
+            return mForegroundQueue.size() + mBackgroundQueue.size();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    /** Returns the number of tasks of unobserved data instances waiting to run. */
+    public int getBackgroundQueueDepth() {
+        mLock.lock();
+        try {
+            return mBackgroundQueue.size();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    /** Returns the mean time tasks have spent queued before starting, in the specified unit. */
+    public long getAverageWaitTime(@NonNull TimeUnit unit) {
+        mLock.lock();
+        try {
+            return mStartedTaskCount == 0 ? 0 : unit.convert(mTotalWaitNanos / mStartedTaskCount, NANOSECONDS);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    /** Returns the longest time any task has spent queued before starting, in the specified unit. */
+    public long getMaxWaitTime(@NonNull TimeUnit unit) {
+        mLock.lock();
+        try {
+            return unit.convert(mMaxWaitNanos, NANOSECONDS);
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    /** Returns the number of tasks that have started running. */
+    public long getStartedTaskCount() {
+        mLock.lock();
+        try {
+            return mStartedTaskCount;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    /** Called by data instances when their first data observer is registered, or last one unregistered. */
+    void setObserved(@NonNull Data<?> data, boolean observed) {
+        List<Task> cancelled = null;
+        mLock.lock();
+        try {
+            if (observed) {
+                if (mUnobserved.remove(data)) {
+                    // Promote back to the foreground, behind tasks that remained observed.
+                    for (Iterator<Task> it = mBackgroundQueue.iterator(); it.hasNext(); ) {
+                        Task task = it.next();
+                        if (task.mData == data) {
+                            it.remove();
+                            mForegroundQueue.addLast(task);
+                        }
+                    }
+                }
+            } else if (mUnobserved.add(data)) {
+                for (Iterator<Task> it = mForegroundQueue.iterator(); it.hasNext(); ) {
+                    Task task = it.next();
+                    if (task.mData == data) {
+                        it.remove();
+                        if (mCancelUnobserved) {
+                            if (cancelled == null) {
+                                cancelled = new ArrayList<>();
+                            }
+                            cancelled.add(task);
+                        } else {
+                            mBackgroundQueue.addLast(task);
+                        }
+                    }
+                }
+            }
+        } finally {
+            mLock.unlock();
+        }
+        // Cancel outside the lock, since cancellation calls back into done().
+        if (cancelled != null) {
+            for (Task task : cancelled) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        mLock.lock();
+        try {
+            mShutdown = true;
+            mNotEmpty.signalAll();
+            signalTerminatedIfAppropriate();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @NonNull
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> pending = new ArrayList<>();
+        mLock.lock();
+        try {
+            mShutdown = true;
+            pending.addAll(mForegroundQueue);
+            pending.addAll(mBackgroundQueue);
+            mForegroundQueue.clear();
+            mBackgroundQueue.clear();
+            for (Thread thread : mThreads) {
+                thread.interrupt();
+            }
+            mNotEmpty.signalAll();
+            signalTerminatedIfAppropriate();
+        } finally {
+            mLock.unlock();
+        }
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        mLock.lock();
+        try {
+            return mShutdown;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        mLock.lock();
+        try {
+            return isTerminatedLocked();
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        mLock.lock();
+        try {
+            while (!isTerminatedLocked()) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = mTerminated.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    private void enqueue(@NonNull Task task) {
+        mLock.lock();
+        try {
+            if (mShutdown) {
+                throw new RejectedExecutionException("Executor has been shut down");
+            }
+            task.mEnqueueTime = System.nanoTime();
+            if (task.mData != null && mUnobserved.contains(task.mData)) {
+                mBackgroundQueue.addLast(task);
+            } else {
+                mForegroundQueue.addLast(task);
+            }
+            if (mIdleThreadCount > 0) {
+                mNotEmpty.signal();
+            } else if (mThreads.size() < mMaxThreadCount) {
+                startThread();
+            }
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    private void startThread() {
+        Thread thread = mThreadFactory.newThread(new Runnable() {
+            @Override
+            public void run() {
+                work();
+            }
+        });
+        mThreads.add(thread);
+        mRunningThreadCount++;
+        thread.start();
+    }
+
+    void work() {
+        try {
+            Task task;
+            while ((task = take()) != null) {
+                task.run();
+                // Clear any interrupt caused by cancellation, so it doesn't leak into the next task.
+                Thread.interrupted();
+            }
+        } finally {
+            mLock.lock();
+            try {
+                mThreads.remove(Thread.currentThread());
+                mRunningThreadCount--;
+                signalTerminatedIfAppropriate();
+            } finally {
+                mLock.unlock();
+            }
+        }
+    }
+
+    /** Blocks until a task is available, returning {@code null} once shut down and drained. */
+    @Nullable
+    private Task take() {
+        mLock.lock();
+        try {
+            while (true) {
+                Task task = mForegroundQueue.pollFirst();
+                if (task == null) {
+                    task = mBackgroundQueue.pollFirst();
+                }
+                if (task != null) {
+                    long wait = System.nanoTime() - task.mEnqueueTime;
+                    mStartedTaskCount++;
+                    mTotalWaitNanos += wait;
+                    mMaxWaitNanos = Math.max(mMaxWaitNanos, wait);
+                    return task;
+                }
+                if (mShutdown) {
+                    return null;
+                }
+                mIdleThreadCount++;
+                try {
+                    mNotEmpty.awaitUninterruptibly();
+                } finally {
+                    mIdleThreadCount--;
+                }
+            }
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    void remove(@NonNull Task task) {
+        mLock.lock();
+        try {
+            if (!mForegroundQueue.remove(task)) {
+                mBackgroundQueue.remove(task);
+            }
+        } finally {
+            mLock.unlock();
+        }
+    }
+
+    private boolean isTerminatedLocked() {
+        return mShutdown && mRunningThreadCount == 0 && mForegroundQueue.isEmpty() && mBackgroundQueue.isEmpty();
+    }
+
+    private void signalTerminatedIfAppropriate() {
+        if (isTerminatedLocked()) {
+            mTerminated.signalAll();
+        }
+    }
+
+    private final class Task extends FutureTask<Void> {
+
+        @Nullable
+        final Data<?> mData;
+
+        long mEnqueueTime;
+
+        Task(@NonNull Runnable runnable, @Nullable Data<?> data) {
+            super(runnable, null);
+            mData = data;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                // Don't let cancelled tasks occupy the queue, or count towards its depth.
+                remove(this);
+            }
+        }
+    }
+}
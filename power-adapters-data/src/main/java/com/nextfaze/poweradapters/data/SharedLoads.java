@@ -0,0 +1,92 @@
+package com.nextfaze.poweradapters.data;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import androidx.annotation.NonNull;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+
+/**
+ * Collapses concurrent loads with the same key into a single invocation, whose result is shared by every caller.
+ * Typically used from {@link ArrayData#load()}, so multiple data instances presenting the same source only hit it once
+ * when they load at the same time. Only in-flight loads are shared; nothing is cached once a load completes.
+ * <p>
+ * Shared results are handed to multiple callers, so they must not be mutated.
+ * @see Data#fromSharedList(Object, Callable)
+ */
+public final class SharedLoads {
+
+    @NonNull
+    private static final SharedLoads SHARED = new SharedLoads();
+
+    @NonNull
+    private final ConcurrentHashMap<Object, FutureTask<?>> mInFlight = new ConcurrentHashMap<>();
+
+    /** Returns the instance used by {@link Data#fromSharedList(Object, Callable)}. */
+    @NonNull
+    public static SharedLoads shared() {
+        return SHARED;
+    }
+
+    /**
+     * Invokes {@code loader} in the calling thread, unless a load with an equal key is already in flight, in which case
+     * this blocks until it completes and returns its result instead.
+     * <p>
+     * If the invocation being waited on is interrupted, such as when the data that started it is refreshed, waiting
+     * callers retry rather than observing the interruption.
+     * @param key Identifies the source being loaded. Must implement {@link Object#equals(Object)} and
+     * {@link Object#hashCode()} appropriately.
+     * @param loader The function that performs the load.
+     * @return The result of the load.
+     * @throws Exception If the load failed.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V load(@NonNull Object key, @NonNull Callable<? extends V> loader) throws Exception {
+        checkNotNull(key, "key");
+        checkNotNull(loader, "loader");
+        while (true) {
+            FutureTask<V> task = new FutureTask<>((Callable<V>) loader);
+            FutureTask<V> inFlight = (FutureTask<V>) mInFlight.putIfAbsent(key, task);
+            if (inFlight == null) {
+                // We're first, so perform the load on this thread.
+                try {
+                    task.run();
+                } finally {
+                    mInFlight.remove(key, task);
+                }
+                return get(task);
+            }
+            try {
+                // An InterruptedException thrown directly by get() means we were interrupted ourselves.
+                return inFlight.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (!(cause instanceof InterruptedException || cause instanceof InterruptedIOException)) {
+                    throw unwrap(e);
+                }
+                // The shared load was interrupted on behalf of another caller, so try again.
+            }
+        }
+    }
+
+    private static <V> V get(@NonNull FutureTask<V> task) throws Exception {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    @NonNull
+    private static Exception unwrap(@NonNull ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return cause instanceof Exception ? (Exception) cause : e;
+    }
+}
@@ -83,6 +83,9 @@ abstract class SimpleData<T, D> extends Data<T> {
     @Override
     protected void onFirstDataObserverRegistered() {
         super.onFirstDataObserverRegistered();
+        if (mExecutor instanceof PrioritizedDataExecutor) {
+            ((PrioritizedDataExecutor) mExecutor).setObserved(this, true);
+        }
         if (mClear) {
             clear();
         }
@@ -90,6 +93,21 @@ abstract class SimpleData<T, D> extends Data<T> {
         updateLoading();
     }
 
+    @CallSuper
+    @Override
+    protected void onLastDataObserverUnregistered() {
+        super.onLastDataObserverUnregistered();
+        if (mExecutor instanceof PrioritizedDataExecutor) {
+            ((PrioritizedDataExecutor) mExecutor).setObserved(this, false);
+            if (mFuture != null && mFuture.isCancelled()) {
+                // The executor dropped our queued load. It'll be submitted again once we're observed.
+                mFuture = null;
+                mCancelled = null;
+                updateLoading();
+            }
+        }
+    }
+
     private void loadDataIfAppropriate() {
         // We only start loading the new data set if it's not already loading, and we have observers.
         // Additionally only load if data is marked as dirty, so this may be invoked several times without
@@ -97,7 +115,7 @@ abstract class SimpleData<T, D> extends Data<T> {
         if (mDirty && mFuture == null && getDataObserverCount() > 0) {
             final AtomicBoolean cancelled = new AtomicBoolean();
             mCancelled = cancelled;
-            mFuture = mExecutor.submit(new Runnable() {
+            mFuture = submit(new Runnable() {
                 @Override
                 public void run() {
                     try {
@@ -147,6 +165,14 @@ abstract class SimpleData<T, D> extends Data<T> {
         setLoading(mFuture != null);
     }
 
+    @NonNull
+    private Future<?> submit(@NonNull Runnable task) {
+        if (mExecutor instanceof PrioritizedDataExecutor) {
+            return ((PrioritizedDataExecutor) mExecutor).submit(this, task);
+        }
+        return mExecutor.submit(task);
+    }
+
     final void cancelTask() {
         if (mCancelled != null) {
             mCancelled.set(true);
@@ -0,0 +1,279 @@
+package com.nextfaze.poweradapters.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+
+/**
+ * Immutable {@link Data} backed by a memory-mapped snapshot file, suitable for very large data sets. The file consists
+ * of a fixed-width table of element offsets followed by variable-length encoded elements, so {@link #size()} is
+ * available as soon as the file is opened, and each element is only decoded when requested. Recently decoded elements
+ * are retained in a small cache. Since the file never changes, {@link #snapshot()} is O(1), decoding elements on
+ * whichever thread reads them.
+ * <p>
+ * Snapshots are created with {@link #write(File, List, Codec)} and opened with {@link #open(File, Codec)}, both of
+ * which perform I/O and should be called from a worker thread. Being a regular {@link Data}, a snapshot can be
+ * composed with {@link #filter}, {@link #sort}, {@link #limit} and so on.
+ * @param <T> The type of element this data contains.
+ */
+public final class SnapshotData<T> extends Data<T> {
+
+    /** "PADS" */
+    private static final int MAGIC = 0x50414453;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int OFFSET_SIZE = 8;
+
+    /** Must be a power of 2. */
+    private static final int CACHE_SIZE = 64;
+
+    @NonNull
+    private final Codec<? extends T> mCodec;
+
+    /** Reused for each decode. Only accessed on the UI thread. */
+    @NonNull
+    private final ByteBuffer mBuffer;
+
+    private final int mSize;
+
+    /** Direct-mapped cache of decoded elements, indexed by position modulo cache size. */
+    @NonNull
+    private final Object[] mCachedElements = new Object[CACHE_SIZE];
+
+    @NonNull
+    private final int[] mCachedPositions = new int[CACHE_SIZE];
+
+    private SnapshotData(@NonNull ByteBuffer buffer, int size, @NonNull Codec<? extends T> codec) {
+        mBuffer = buffer;
+        mSize = size;
+        mCodec = codec;
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            mCachedPositions[i] = -1;
+        }
+    }
+
+    /**
+     * Maps the specified snapshot file into memory. Only the header is read.
+     * @param file A file previously created with {@link #write(File, List, Codec)}.
+     * @param codec Decodes elements. Must be compatible with the codec used to write the file.
+     * @throws IOException If the file can't be read, or isn't a valid snapshot.
+     */
+    @WorkerThread
+    @NonNull
+    public static <T> SnapshotData<T> open(@NonNull File file, @NonNull Codec<? extends T> codec) throws IOException {
+        checkNotNull(file, "file");
+        checkNotNull(codec, "codec");
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            long length = channel.size();
+            if (length < HEADER_SIZE) {
+                throw new IOException("Not a snapshot file: " + file);
+            }
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file too large to map: " + file);
+            }
+            // The mapping remains valid after the channel is closed.
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a snapshot file, or unsupported version: " + file);
+            }
+            int size = buffer.getInt(8);
+            if (size < 0 || HEADER_SIZE + (size + 1L) * OFFSET_SIZE > length) {
+                throw new IOException("Corrupt snapshot file: " + file);
+            }
+            return new SnapshotData<>(buffer, size, codec);
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * Writes the specified elements to a snapshot file, replacing it atomically if it already exists.
+     * @param file The destination file.
+     * @param elements The elements to write.
+     * @param codec Encodes elements.
+     * @throws IOException If the file can't be written.
+     */
+    @WorkerThread
+    public static <T> void write(@NonNull File file,
+                                 @NonNull List<? extends T> elements,
+                                 @NonNull Codec<? super T> codec) throws IOException {
+        checkNotNull(file, "file");
+        checkNotNull(elements, "elements");
+        checkNotNull(codec, "codec");
+        File temp = new File(file.getPath() + ".tmp");
+        RandomAccessFile out = new RandomAccessFile(temp, "rw");
+        try {
+            out.setLength(0);
+            int size = elements.size();
+            long tableOffset = HEADER_SIZE;
+            long payloadOffset = tableOffset + (size + 1L) * OFFSET_SIZE;
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(size);
+            // Encode each element into a reusable buffer, writing payloads sequentially after the offset table.
+            PayloadBuffer bytes = new PayloadBuffer();
+            DataOutputStream payload = new DataOutputStream(bytes);
+            long[] offsets = new long[size + 1];
+            long position = payloadOffset;
+            out.seek(payloadOffset);
+            for (int i = 0; i < size; i++) {
+                offsets[i] = position;
+                bytes.reset();
+                codec.encode(elements.get(i), payload);
+                payload.flush();
+                bytes.writeTo(out);
+                position += bytes.size();
+            }
+            offsets[size] = position;
+            out.seek(tableOffset);
+            ByteBuffer table = ByteBuffer.allocate(offsets.length * OFFSET_SIZE);
+            for (long offset : offsets) {
+                table.putLong(offset);
+            }
+            out.write(table.array());
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            throw e;
+        }
+        out.close();
+        if (!temp.renameTo(file)) {
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            throw new IOException("Failed to replace " + file);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @NonNull
+    @Override
+    public T get(int position, int flags) {
+        if (position < 0 || position >= mSize) {
+            throw new IndexOutOfBoundsException("Position: " + position + ", size: " + mSize);
+        }
+        int slot = position & (CACHE_SIZE - 1);
+        if (mCachedPositions[slot] == position) {
+            return (T) mCachedElements[slot];
+        }
+        T element = decode(mBuffer, position);
+        mBuffer.clear();
+        mCachedElements[slot] = element;
+        mCachedPositions[slot] = position;
+        return element;
+    }
+
+    /**
+     * Returns a list that decodes elements from the mapped file as they're read, without the cache. Each read uses its
+     * own view of the read-only mapping, so the list can be read from any thread, provided the {@link Codec} can.
+     */
+    @NonNull
+    @Override
+    public List<T> snapshot() {
+        // Duplicated on the UI thread while the shared buffer is clear. The list never moves its own copy.
+        return new SnapshotList(mBuffer.duplicate());
+    }
+
+    /** Decodes the element at the specified position, leaving the buffer positioned and limited to the element. */
+    @NonNull
+    private T decode(@NonNull ByteBuffer buffer, int position) {
+        int entry = HEADER_SIZE + position * OFFSET_SIZE;
+        long start = buffer.getLong(entry);
+        long end = buffer.getLong(entry + OFFSET_SIZE);
+        // Elements follow the offset table, which ends with the offset of the end of the last element.
+        if (start < HEADER_SIZE + (mSize + 1L) * OFFSET_SIZE || start > end || end > buffer.capacity()) {
+            throw new IllegalStateException("Corrupt snapshot element at position " + position);
+        }
+        buffer.limit((int) end);
+        buffer.position((int) start);
+        return mCodec.decode(buffer);
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    @Override
+    public boolean isLoading() {
+        return false;
+    }
+
+    @Override
+    public int available() {
+        return 0;
+    }
+
+    @Override
+    public void invalidate() {
+    }
+
+    @Override
+    public void refresh() {
+    }
+
+    @Override
+    public void reload() {
+    }
+
+    /**
+     * Converts elements to and from their binary snapshot representation.
+     * @param <T> The type of element.
+     */
+    public interface Codec<T> {
+        /** Writes the specified element. */
+        void encode(@NonNull T element, @NonNull DataOutput out) throws IOException;
+
+        /**
+         * Reads an element from the buffer, which is positioned at the start of the element and limited to its end.
+         * The buffer must not be retained.
+         */
+        @NonNull
+        T decode(@NonNull ByteBuffer buffer);
+    }
+
+    private final class SnapshotList extends AbstractList<T> implements RandomAccess {
+
+        @NonNull
+        private final ByteBuffer mSource;
+
+        SnapshotList(@NonNull ByteBuffer source) {
+            mSource = source;
+        }
+
+        @Override
+        public T get(int position) {
+            if (position < 0 || position >= mSize) {
+                throw new IndexOutOfBoundsException("Position: " + position + ", size: " + mSize);
+            }
+            return decode(mSource.duplicate(), position);
+        }
+
+        @Override
+        public int size() {
+            return mSize;
+        }
+    }
+
+    /** Exposes its internal array, so elements can be written to the file without copying. */
+    private static final class PayloadBuffer extends ByteArrayOutputStream {
+        void writeTo(@NonNull RandomAccessFile file) throws IOException {
+            file.write(buf, 0, count);
+        }
+    }
+}
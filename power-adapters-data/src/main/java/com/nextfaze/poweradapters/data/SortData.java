@@ -63,10 +63,16 @@ final class SortData<T> extends DataWrapper<T> {
         for (int innerPosition = innerPositionStart; innerPosition < innerPositionStart + innerItemCount; innerPosition++) {
             T t = mData.get(innerPosition);
             int oldOuterPosition = mIndex.remove(innerPosition);
-            notifyItemRemoved(oldOuterPosition);
-            int newOuterPosition = findOuterPositionForValue(t);
-            mIndex.insert(newOuterPosition, innerPosition);
-            notifyItemInserted(newOuterPosition);
+            if (isInOrderAt(oldOuterPosition, t)) {
+                // Sort order unaffected, so the change and its payload can be passed on as-is.
+                mIndex.insert(oldOuterPosition, innerPosition);
+                notifyItemChanged(oldOuterPosition, payload);
+            } else {
+                notifyItemRemoved(oldOuterPosition);
+                int newOuterPosition = findOuterPositionForValue(t);
+                mIndex.insert(newOuterPosition, innerPosition);
+                notifyItemInserted(newOuterPosition);
+            }
         }
     }
 
@@ -106,6 +112,15 @@ final class SortData<T> extends DataWrapper<T> {
         }
     }
 
+    /** Returns whether the value could be inserted at the specified outer position without violating the sort order. */
+    private boolean isInOrderAt(int outerPosition, T value) {
+        if (outerPosition > 0 && mComparator.compare(mData.get(mIndex.outerToInner(outerPosition - 1)), value) > 0) {
+            return false;
+        }
+        return outerPosition >= mIndex.size() ||
+                mComparator.compare(value, mData.get(mIndex.outerToInner(outerPosition))) <= 0;
+    }
+
     private int findOuterPositionForValue(T value) {
         final int size = mIndex.size();
         int lo = 0;
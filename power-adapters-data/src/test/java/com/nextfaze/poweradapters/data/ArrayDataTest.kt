@@ -2,16 +2,23 @@
 
 package com.nextfaze.poweradapters.data
 
+import com.google.common.truth.Truth.assertThat
 import com.google.common.util.concurrent.MoreExecutors.newDirectExecutorService
 import com.nextfaze.poweradapters.data.test.test
+import com.nextfaze.poweradapters.test.ChangeEvent
+import com.nextfaze.poweradapters.test.InsertEvent
 import org.junit.After
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.robolectric.RobolectricTestRunner
 import org.robolectric.annotation.Config
+import org.robolectric.shadows.ShadowLooper
 
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit.SECONDS
 
 @RunWith(RobolectricTestRunner::class)
 class ArrayDataTest {
@@ -36,5 +43,22 @@ class ArrayDataTest {
         data.refresh()
         testDataObserver.assertNotificationsConsistent()
     }
-}
 
+    @Test fun `cached elements are presented until fresh elements are loaded`() {
+        val cache = DataCaches.memory(1)
+        cache.write("key", listOf("a", "b"))
+        val loaded = CountDownLatch(1)
+        val loadExecutor = Executors.newSingleThreadExecutor()
+        val data = Data.fromList({ loaded.await(); listOf("a", "c") }, loadExecutor) as ArrayData<String>
+        data.setCache(cache, "key")
+        val testDataObserver = data.test()
+        testDataObserver.assertElements("a", "b")
+        loaded.countDown()
+        loadExecutor.shutdown()
+        loadExecutor.awaitTermination(5, SECONDS)
+        ShadowLooper.runUiThreadTasks()
+        testDataObserver.assertElements("a", "c")
+        testDataObserver.assertChangeNotifications(InsertEvent(0, 2), ChangeEvent(1, 1, null))
+        assertThat(cache.peek("key")).isEqualTo(listOf("a", "c"))
+    }
+}
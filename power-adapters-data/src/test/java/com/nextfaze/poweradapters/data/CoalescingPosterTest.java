@@ -0,0 +1,84 @@
+package com.nextfaze.poweradapters.data;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public final class CoalescingPosterTest {
+
+    private CoalescingPoster mPoster;
+    private List<String> mRun;
+
+    @Before
+    public void setUp() throws Exception {
+        ShadowLooper.pauseMainLooper();
+        mPoster = new CoalescingPoster();
+        mRun = new ArrayList<>();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        ShadowLooper.unPauseMainLooper();
+    }
+
+    @Test
+    public void unkeyedTasksAllRunInOrder() {
+        mPoster.post(record("a"));
+        mPoster.post(record("b"));
+        mPoster.post(record("c"));
+        assertThat(mRun).isEmpty();
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mRun).containsExactly("a", "b", "c").inOrder();
+    }
+
+    @Test
+    public void keyedTasksConflatedToLatest() {
+        Object key = new Object();
+        mPoster.post(key, record("a"));
+        mPoster.post(key, record("b"));
+        mPoster.post(key, record("c"));
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mRun).containsExactly("c");
+    }
+
+    @Test
+    public void keyedTaskRunsInPositionOfLatestPost() {
+        Object key = new Object();
+        mPoster.post(key, record("a"));
+        mPoster.post(record("b"));
+        mPoster.post(key, record("c"));
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mRun).containsExactly("b", "c").inOrder();
+    }
+
+    @Test
+    public void keyedTaskPostedAfterFlushRunsAgain() {
+        Object key = new Object();
+        mPoster.post(key, record("a"));
+        ShadowLooper.runUiThreadTasks();
+        mPoster.post(key, record("b"));
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mRun).containsExactly("a", "b").inOrder();
+    }
+
+    @NonNull
+    private Runnable record(@NonNull final String name) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                mRun.add(name);
+            }
+        };
+    }
+}
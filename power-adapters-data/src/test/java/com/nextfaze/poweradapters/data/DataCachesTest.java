@@ -0,0 +1,62 @@
+package com.nextfaze.poweradapters.data;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+
+import static com.google.common.truth.Truth.assertThat;
+
+public final class DataCachesTest {
+
+    @Rule
+    public TemporaryFolder mTemporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void memoryCacheEvictsLeastRecentlyUsed() {
+        DataCache cache = DataCaches.memory(2);
+        cache.write("a", Arrays.asList(1));
+        cache.write("b", Arrays.asList(2));
+        cache.peek("a");
+        cache.write("c", Arrays.asList(3));
+        assertThat(cache.peek("a")).containsExactly(1);
+        assertThat(cache.peek("b")).isNull();
+        assertThat(cache.peek("c")).containsExactly(3);
+    }
+
+    @Test
+    public void diskCacheRoundTrip() throws Exception {
+        DataCache cache = DataCaches.disk(mTemporaryFolder.getRoot());
+        cache.write("http://example.com/items?page=1", Arrays.asList("a", "b"));
+        assertThat(cache.peek("http://example.com/items?page=1")).isNull();
+        assertThat(DataCaches.disk(mTemporaryFolder.getRoot()).read("http://example.com/items?page=1"))
+                .containsExactly("a", "b").inOrder();
+        assertThat(cache.read("other")).isNull();
+    }
+
+    @Test
+    public void diskCacheDiscardsCorruptEntries() throws Exception {
+        File directory = mTemporaryFolder.getRoot();
+        DataCache cache = DataCaches.disk(directory);
+        cache.write("key", Arrays.asList("a"));
+        File[] files = directory.listFiles();
+        assertThat(files).hasLength(1);
+        FileOutputStream out = new FileOutputStream(files[0]);
+        out.write(new byte[] { 1, 2, 3 });
+        out.close();
+        assertThat(cache.read("key")).isNull();
+        assertThat(directory.listFiles()).isEmpty();
+    }
+
+    @Test
+    public void memoryAndDiskCachePromotesDiskEntriesToMemory() throws Exception {
+        DataCaches.disk(mTemporaryFolder.getRoot()).write("key", Arrays.asList("a"));
+        DataCache cache = DataCaches.memoryAndDisk(1, mTemporaryFolder.getRoot());
+        assertThat(cache.peek("key")).isNull();
+        assertThat(cache.read("key")).containsExactly("a");
+        assertThat(cache.peek("key")).containsExactly("a");
+    }
+}
@@ -0,0 +1,75 @@
+package com.nextfaze.poweradapters.data;
+
+import com.nextfaze.poweradapters.SimpleDataObserver;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/** Runs without Robolectric, to verify data works on a plain JVM. */
+public final class DataSchedulersTest {
+
+    private DataSchedulers mSchedulers;
+
+    @Before
+    public void setUp() throws Exception {
+        mSchedulers = DataSchedulers.jvm();
+        DataSchedulers.set(mSchedulers);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        DataSchedulers.set(null);
+    }
+
+    @Test
+    public void postedTaskRunsOnUiThread() throws Exception {
+        final AtomicBoolean onUiThread = new AtomicBoolean();
+        final CountDownLatch latch = new CountDownLatch(1);
+        assertThat(mSchedulers.isUiThread()).isFalse();
+        mSchedulers.postToUiThread(new Runnable() {
+            @Override
+            public void run() {
+                onUiThread.set(mSchedulers.isUiThread());
+                latch.countDown();
+            }
+        });
+        assertThat(latch.await(5, SECONDS)).isTrue();
+        assertThat(onUiThread.get()).isTrue();
+    }
+
+    @Test
+    public void arrayDataLoadsAndNotifiesOnUiThread() throws Exception {
+        final ArrayData<String> data = new ArrayData<String>() {
+            @Override
+            protected List<? extends String> load() throws Throwable {
+                return Arrays.asList("a", "b", "c");
+            }
+        };
+        final AtomicBoolean notifiedOnUiThread = new AtomicBoolean();
+        final CountDownLatch latch = new CountDownLatch(1);
+        mSchedulers.postToUiThread(new Runnable() {
+            @Override
+            public void run() {
+                data.registerDataObserver(new SimpleDataObserver() {
+                    @Override
+                    public void onChanged() {
+                        notifiedOnUiThread.set(mSchedulers.isUiThread());
+                        latch.countDown();
+                    }
+                });
+            }
+        });
+        assertThat(latch.await(5, SECONDS)).isTrue();
+        assertThat(notifiedOnUiThread.get()).isTrue();
+        assertThat(data.asList()).containsExactly("a", "b", "c").inOrder();
+    }
+}
@@ -1,6 +1,7 @@
 package com.nextfaze.poweradapters.data;
 
 import com.google.common.collect.FluentIterable;
+import com.nextfaze.poweradapters.ChangePayloadFunction;
 import com.nextfaze.poweradapters.DataObserver;
 import com.nextfaze.poweradapters.Predicate;
 import com.nextfaze.poweradapters.data.test.FakeData;
@@ -113,6 +114,20 @@ public final class FilterDataTest {
         verifyNoMoreInteractions(observer);
     }
 
+    @Test
+    public void changeIncludedElementPassesPayload() {
+        DataObserver observer = registerMockObserver();
+        mData.setChangePayloadFunction(new ChangePayloadFunction<String>() {
+            @Override
+            public Object getChangePayload(@NonNull String oldItem, @NonNull String newItem) {
+                return oldItem + ">" + newItem;
+            }
+        });
+        mData.change(3, "boo");
+        verify(observer).onItemRangeChanged(1, 1, "bar>boo");
+        verifyNoMoreInteractions(observer);
+    }
+
     @Test
     public void changeExcludedToIncludedElement() {
         DataObserver observer = registerMockObserver();
@@ -13,6 +13,8 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.robolectric.RobolectricTestRunner;
 
+import java.util.List;
+
 import androidx.annotation.NonNull;
 
 import static com.google.common.collect.Lists.newArrayList;
@@ -55,6 +57,13 @@ public final class LimitDataTest {
         assertThat(new LimitData<>(mData, -50)).containsExactly().inOrder();
     }
 
+    @Test
+    public void snapshotIsLimitedAndUnaffectedByLaterChanges() {
+        List<String> snapshot = mLimitedData.snapshot();
+        mData.remove(0, 2);
+        assertThat(snapshot).containsExactly("a", "bc", "def", "ghij", "klmno").inOrder();
+    }
+
     @Test
     public void limitedSize() {
         assertThat(mLimitedData).hasSize(5);
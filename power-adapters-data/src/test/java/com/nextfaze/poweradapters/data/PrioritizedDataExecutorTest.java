@@ -0,0 +1,120 @@
+package com.nextfaze.poweradapters.data;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import androidx.annotation.NonNull;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.mockito.Mockito.mock;
+
+public final class PrioritizedDataExecutorTest {
+
+    private final CountDownLatch mBlocking = new CountDownLatch(1);
+    private final CountDownLatch mBlock = new CountDownLatch(1);
+    private final List<String> mRun = new CopyOnWriteArrayList<>();
+    private final Data<?> mObserved = mock(Data.class);
+    private final Data<?> mUnobserved = mock(Data.class);
+
+    private PrioritizedDataExecutor mDemotingExecutor;
+    private PrioritizedDataExecutor mCancellingExecutor;
+
+    @Before
+    public void setUp() throws Exception {
+        mDemotingExecutor = new PrioritizedDataExecutor(1, false);
+        mCancellingExecutor = new PrioritizedDataExecutor(1, true);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        mDemotingExecutor.shutdownNow();
+        mCancellingExecutor.shutdownNow();
+    }
+
+    @Test
+    public void observedTasksRunBeforeUnobservedTasks() throws Exception {
+        PrioritizedDataExecutor executor = mDemotingExecutor;
+        block(executor);
+        executor.submit(mUnobserved, record("a"));
+        executor.submit(mObserved, record("b"));
+        executor.setObserved(mUnobserved, false);
+        assertThat(executor.getQueueDepth()).isEqualTo(2);
+        assertThat(executor.getBackgroundQueueDepth()).isEqualTo(1);
+        mBlock.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, SECONDS)).isTrue();
+        assertThat(mRun).containsExactly("b", "a").inOrder();
+        assertThat(executor.getStartedTaskCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void tasksPromotedWhenObservedAgain() throws Exception {
+        PrioritizedDataExecutor executor = mDemotingExecutor;
+        block(executor);
+        executor.setObserved(mUnobserved, false);
+        executor.submit(mUnobserved, record("a"));
+        executor.setObserved(mUnobserved, true);
+        assertThat(executor.getBackgroundQueueDepth()).isEqualTo(0);
+        mBlock.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, SECONDS)).isTrue();
+        assertThat(mRun).containsExactly("a");
+    }
+
+    @Test
+    public void queuedTasksCancelledWhenUnobserved() throws Exception {
+        PrioritizedDataExecutor executor = mCancellingExecutor;
+        block(executor);
+        Future<?> future = executor.submit(mUnobserved, record("a"));
+        executor.submit(mObserved, record("b"));
+        executor.setObserved(mUnobserved, false);
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(executor.getQueueDepth()).isEqualTo(1);
+        mBlock.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, SECONDS)).isTrue();
+        assertThat(mRun).containsExactly("b");
+    }
+
+    @Test
+    public void cancelledTaskRemovedFromQueue() throws Exception {
+        PrioritizedDataExecutor executor = mDemotingExecutor;
+        block(executor);
+        executor.submit(mObserved, record("a")).cancel(true);
+        assertThat(executor.getQueueDepth()).isEqualTo(0);
+        mBlock.countDown();
+    }
+
+    /** Occupies the executor's only thread until {@link #mBlock} is released. */
+    private void block(@NonNull PrioritizedDataExecutor executor) throws InterruptedException {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                mBlocking.countDown();
+                try {
+                    mBlock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        mBlocking.await();
+    }
+
+    @NonNull
+    private Runnable record(@NonNull final String name) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                mRun.add(name);
+            }
+        };
+    }
+}
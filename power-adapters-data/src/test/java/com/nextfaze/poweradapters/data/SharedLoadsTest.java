@@ -0,0 +1,110 @@
+package com.nextfaze.poweradapters.data;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.NonNull;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.fail;
+
+public final class SharedLoadsTest {
+
+    private final SharedLoads mSharedLoads = new SharedLoads();
+    private final ExecutorService mExecutor = Executors.newCachedThreadPool();
+    private final AtomicInteger mInvocationCount = new AtomicInteger();
+    private final CountDownLatch mLoading = new CountDownLatch(1);
+    private final CountDownLatch mRelease = new CountDownLatch(1);
+
+    @After
+    public void tearDown() throws Exception {
+        mExecutor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentLoadsWithSameKeyShareOneInvocation() throws Exception {
+        final List<String> result = Arrays.asList("a", "b");
+        Future<List<String>> first = mExecutor.submit(load("key", result));
+        assertThat(mLoading.await(5, SECONDS)).isTrue();
+        FutureTask<List<String>> second = new FutureTask<>(load("key", Arrays.asList("x")));
+        Thread secondThread = new Thread(second);
+        secondThread.start();
+        // Only release the first load once the second is blocked waiting for it.
+        awaitWaiting(secondThread);
+        mRelease.countDown();
+        assertThat(first.get(5, SECONDS)).isSameAs(result);
+        assertThat(second.get(5, SECONDS)).isSameAs(result);
+        assertThat(mInvocationCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void loadsWithDifferentKeysAreIndependent() throws Exception {
+        mRelease.countDown();
+        assertThat(load("a", Arrays.asList("a")).call()).containsExactly("a");
+        assertThat(load("b", Arrays.asList("b")).call()).containsExactly("b");
+        assertThat(mInvocationCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void sequentialLoadsWithSameKeyAreNotCached() throws Exception {
+        mRelease.countDown();
+        load("key", Arrays.asList("a")).call();
+        load("key", Arrays.asList("a")).call();
+        assertThat(mInvocationCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void failureIsRethrown() throws Exception {
+        final IllegalStateException e = new IllegalStateException();
+        try {
+            mSharedLoads.load("key", new Callable<Object>() {
+                @Override
+                public Object call() throws Exception {
+                    throw e;
+                }
+            });
+            fail();
+        } catch (IllegalStateException thrown) {
+            assertThat(thrown).isSameAs(e);
+        }
+    }
+
+    private static void awaitWaiting(@NonNull Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            if (System.nanoTime() - deadline >= 0) {
+                fail("Thread never blocked");
+            }
+            Thread.yield();
+        }
+    }
+
+    /** Returns a task that loads via {@link #mSharedLoads}, blocking until released. */
+    private <T> Callable<T> load(final Object key, final T result) {
+        return new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                return mSharedLoads.load(key, new Callable<T>() {
+                    @Override
+                    public T call() throws Exception {
+                        mInvocationCount.incrementAndGet();
+                        mLoading.countDown();
+                        mRelease.await();
+                        return result;
+                    }
+                });
+            }
+        };
+    }
+}
@@ -0,0 +1,154 @@
+package com.nextfaze.poweradapters.data;
+
+import com.nextfaze.poweradapters.Predicate;
+import com.nextfaze.poweradapters.SimpleDataObserver;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataOutput;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.fail;
+
+public final class SnapshotDataTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static final SnapshotData.Codec<String> STRING_CODEC = new SnapshotData.Codec<String>() {
+        @Override
+        public void encode(@NonNull String element, @NonNull DataOutput out) throws IOException {
+            out.write(element.getBytes(UTF_8));
+        }
+
+        @NonNull
+        @Override
+        public String decode(@NonNull ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return new String(bytes, UTF_8);
+        }
+    };
+
+    @Rule
+    public TemporaryFolder mTemporaryFolder = new TemporaryFolder();
+
+    private File mFile;
+
+    @Before
+    public void setUp() throws Exception {
+        mFile = new File(mTemporaryFolder.getRoot(), "snapshot");
+    }
+
+    @Test
+    public void elementsMatchWrittenElements() throws Exception {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add("element " + i);
+        }
+        SnapshotData.write(mFile, elements, STRING_CODEC);
+        SnapshotData<String> data = SnapshotData.open(mFile, STRING_CODEC);
+        assertThat(data.size()).isEqualTo(1000);
+        assertThat(data.get(999)).isEqualTo("element 999");
+        assertThat(data.get(0)).isEqualTo("element 0");
+        assertThat(data.asList()).containsExactlyElementsIn(elements).inOrder();
+    }
+
+    @Test
+    public void emptyElementsSupported() throws Exception {
+        SnapshotData.write(mFile, Collections.singletonList(""), STRING_CODEC);
+        SnapshotData<String> data = SnapshotData.open(mFile, STRING_CODEC);
+        assertThat(data.size()).isEqualTo(1);
+        assertThat(data.get(0)).isEmpty();
+    }
+
+    @Test
+    public void composesWithFilter() throws Exception {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            elements.add(Integer.toString(i));
+        }
+        SnapshotData.write(mFile, elements, STRING_CODEC);
+        Data<String> data = SnapshotData.open(mFile, STRING_CODEC).filter(new Predicate<String>() {
+            @Override
+            public boolean apply(String s) {
+                return Integer.parseInt(s) % 2 == 0;
+            }
+        });
+        data.registerDataObserver(new SimpleDataObserver() {
+            @Override
+            public void onChanged() {
+            }
+        });
+        assertThat(data.asList()).containsExactly("0", "2", "4", "6", "8").inOrder();
+    }
+
+    @Test
+    public void invalidFileRejected() throws Exception {
+        FileOutputStream out = new FileOutputStream(mFile);
+        out.write(new byte[16]);
+        out.close();
+        try {
+            SnapshotData.open(mFile, STRING_CODEC);
+            fail();
+        } catch (IOException expected) {
+        }
+    }
+
+    @Test
+    public void snapshotReadableFromAnotherThread() throws Exception {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add("element " + i);
+        }
+        SnapshotData.write(mFile, elements, STRING_CODEC);
+        SnapshotData<String> data = SnapshotData.open(mFile, STRING_CODEC);
+        final List<String> snapshot = data.snapshot();
+        FutureTask<List<String>> task = new FutureTask<>(new Callable<List<String>>() {
+            @Override
+            public List<String> call() throws Exception {
+                return new ArrayList<>(snapshot);
+            }
+        });
+        new Thread(task).start();
+        // Reads through the data on this thread meanwhile shouldn't disturb the snapshot.
+        for (int i = 0; i < 1000; i++) {
+            assertThat(data.get(i)).isEqualTo("element " + i);
+        }
+        assertThat(task.get(5, TimeUnit.SECONDS)).containsExactlyElementsIn(elements).inOrder();
+    }
+
+    @Test
+    public void elementWithCorruptOffsetRejected() throws Exception {
+        SnapshotData.write(mFile, asList("a", "b"), STRING_CODEC);
+        // Overwrite the end offset of the last element, which follows the 12 byte header and 2 offsets.
+        RandomAccessFile file = new RandomAccessFile(mFile, "rw");
+        file.seek(12 + 2 * 8);
+        file.writeLong(Integer.MAX_VALUE);
+        file.close();
+        SnapshotData<String> data = SnapshotData.open(mFile, STRING_CODEC);
+        assertThat(data.get(0)).isEqualTo("a");
+        try {
+            data.get(1);
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+}
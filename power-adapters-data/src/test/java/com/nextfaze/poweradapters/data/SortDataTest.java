@@ -1,6 +1,7 @@
 package com.nextfaze.poweradapters.data;
 
 import com.google.common.collect.Ordering;
+import com.nextfaze.poweradapters.ChangePayloadFunction;
 import com.nextfaze.poweradapters.DataObserver;
 import com.nextfaze.poweradapters.data.test.FakeData;
 
@@ -93,8 +94,22 @@ public final class SortDataTest {
         DataObserver observer = registerMockObserver();
         mFakeData.change(4, 26);
         assertContentsSorted();
-        verify(observer).onItemRangeRemoved(5, 1);
-        verify(observer).onItemRangeInserted(5, 1);
+        verify(observer).onItemRangeChanged(5, 1, null);
+        verifyNoMoreInteractions(observer);
+    }
+
+    @Test
+    public void changeInPlacePassesPayload() {
+        DataObserver observer = registerMockObserver();
+        mFakeData.setChangePayloadFunction(new ChangePayloadFunction<Integer>() {
+            @Override
+            public Object getChangePayload(@NonNull Integer oldItem, @NonNull Integer newItem) {
+                return newItem - oldItem;
+            }
+        });
+        mFakeData.change(2, 6);
+        assertContentsSorted();
+        verify(observer).onItemRangeChanged(1, 1, 1);
         verifyNoMoreInteractions(observer);
     }
 
@@ -108,8 +123,7 @@ public final class SortDataTest {
         inOrder.verify(observer).onItemRangeInserted(3, 1);
         inOrder.verify(observer).onItemRangeRemoved(1, 1);
         inOrder.verify(observer).onItemRangeInserted(5, 1);
-        inOrder.verify(observer).onItemRangeRemoved(1, 1);
-        inOrder.verify(observer).onItemRangeInserted(1, 1);
+        inOrder.verify(observer).onItemRangeChanged(1, 1, null);
         inOrder.verifyNoMoreInteractions();
     }
 
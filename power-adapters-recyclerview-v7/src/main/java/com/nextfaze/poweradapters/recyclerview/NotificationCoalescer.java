@@ -0,0 +1,315 @@
+package com.nextfaze.poweradapters.recyclerview;
+
+import android.view.Choreographer;
+
+import com.nextfaze.poweradapters.DataObserver;
+import com.nextfaze.poweradapters.PowerAdapter;
+
+import java.util.ArrayList;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Buffers the notifications received within a frame, and dispatches them to a target observer in a single batch at the
+ * start of the next frame, before layout. Adjacent inserts, removes, and changes are merged, and items removed after
+ * being inserted within the same frame cancel out. A full change discards all fine-grained notifications buffered
+ * before or after it.
+ * <p>
+ * Buffering can be suspended, in which case notifications are dispatched as they arrive.
+ */
+@UiThread
+final class NotificationCoalescer implements DataObserver {
+
+    /** Beyond this many buffered ops, a full change is dispatched instead. */
+    private static final int MAX_OPS = 64;
+
+    private static final int CHANGE = 0;
+    private static final int INSERT = 1;
+    private static final int REMOVE = 2;
+    private static final int MOVE = 3;
+
+    @NonNull
+    private final PowerAdapter mAdapter;
+
+    @NonNull
+    private final DataObserver mTarget;
+
+    @NonNull
+    private final ArrayList<Op> mOps = new ArrayList<>();
+
+    @NonNull
+    private final Choreographer.FrameCallback mFrameCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            mFrameCallbackPosted = false;
+            flush();
+        }
+    };
+
+    @NonNull
+    private final Choreographer.FrameCallback mResumeCallback = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            mResumePending = false;
+        }
+    };
+
+    private boolean mFrameCallbackPosted;
+
+    /** Whether notifications are dispatched as they arrive, rather than buffered. */
+    private boolean mSuspended;
+
+    /** Whether buffering has been resumed, but doesn't take effect until the next frame. */
+    private boolean mResumePending;
+
+    private boolean mChangedPending;
+
+    /** The item count as of the last dispatched notification. */
+    private int mDispatchedItemCount;
+
+    NotificationCoalescer(@NonNull PowerAdapter adapter, @NonNull DataObserver target) {
+        mAdapter = adapter;
+        mTarget = target;
+    }
+
+    /** Returns whether notifications are buffered and waiting to be dispatched. */
+    boolean hasPendingNotifications() {
+        return mChangedPending || !mOps.isEmpty();
+    }
+
+    /** Returns the item count as of the last dispatched notification, which is what the target observer expects. */
+    int getDispatchedItemCount() {
+        return mDispatchedItemCount;
+    }
+
+    /**
+     * Sets whether buffering is suspended. Suspending dispatches any buffered notifications immediately. Resuming only
+     * takes effect from the next frame, so notifications arriving in the meantime are still dispatched immediately.
+     */
+    void setSuspended(boolean suspended) {
+        if (suspended == mSuspended) {
+            return;
+        }
+        mSuspended = suspended;
+        if (suspended) {
+            if (mResumePending) {
+                mResumePending = false;
+                Choreographer.getInstance().removeFrameCallback(mResumeCallback);
+            }
+            flush();
+        } else {
+            mResumePending = true;
+            Choreographer.getInstance().postFrameCallback(mResumeCallback);
+        }
+    }
+
+    /** Returns whether notifications are currently dispatched as they arrive. */
+    boolean isSuspended() {
+        return mSuspended || mResumePending;
+    }
+
+    /** Discards any buffered notifications, as the target observer is now in sync with the adapter. */
+    void reset() {
+        cancelFrameCallback();
+        mOps.clear();
+        mChangedPending = false;
+        mDispatchedItemCount = mAdapter.getItemCount();
+    }
+
+    /** Dispatches any buffered notifications immediately. */
+    void flush() {
+        cancelFrameCallback();
+        if (!hasPendingNotifications()) {
+            return;
+        }
+        // Clear state before dispatching, since the target may query the item count in response.
+        boolean changed = mChangedPending;
+        Op[] ops = mOps.toArray(new Op[mOps.size()]);
+        reset();
+        if (changed) {
+            mTarget.onChanged();
+            return;
+        }
+        for (Op op : ops) {
+            switch (op.type) {
+                case CHANGE:
+                    mTarget.onItemRangeChanged(op.positionStart, op.itemCount, op.payload);
+                    break;
+                case INSERT:
+                    mTarget.onItemRangeInserted(op.positionStart, op.itemCount);
+                    break;
+                case REMOVE:
+                    mTarget.onItemRangeRemoved(op.positionStart, op.itemCount);
+                    break;
+                case MOVE:
+                    mTarget.onItemRangeMoved(op.positionStart, op.toPosition, op.itemCount);
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public void onChanged() {
+        mOps.clear();
+        mChangedPending = true;
+        scheduleFlush();
+    }
+
+    @Override
+    public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+        if (mChangedPending) {
+            return;
+        }
+        Op last = lastOp();
+        if (last != null && last.type == CHANGE && equal(last.payload, payload) &&
+                positionStart <= last.positionStart + last.itemCount &&
+                positionStart + itemCount >= last.positionStart) {
+            int end = max(last.positionStart + last.itemCount, positionStart + itemCount);
+            last.positionStart = min(last.positionStart, positionStart);
+            last.itemCount = end - last.positionStart;
+        } else if (last != null && last.type == INSERT && contains(last, positionStart, itemCount)) {
+            // The inserted items will be bound in full anyway.
+        } else {
+            add(new Op(CHANGE, positionStart, itemCount, 0, payload));
+        }
+        scheduleFlush();
+    }
+
+    @Override
+    public void onItemRangeInserted(int positionStart, int itemCount) {
+        if (mChangedPending) {
+            return;
+        }
+        Op last = lastOp();
+        if (last != null && last.type == INSERT &&
+                positionStart >= last.positionStart && positionStart <= last.positionStart + last.itemCount) {
+            last.itemCount += itemCount;
+        } else {
+            add(new Op(INSERT, positionStart, itemCount, 0, null));
+        }
+        scheduleFlush();
+    }
+
+    @Override
+    public void onItemRangeRemoved(int positionStart, int itemCount) {
+        if (mChangedPending) {
+            return;
+        }
+        addRemove(positionStart, itemCount);
+        scheduleFlush();
+    }
+
+    @Override
+    public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+        if (mChangedPending) {
+            return;
+        }
+        add(new Op(MOVE, fromPosition, itemCount, toPosition, null));
+        scheduleFlush();
+    }
+
+    private void addRemove(int positionStart, int itemCount) {
+        Op last = lastOp();
+        if (last != null && last.type == INSERT) {
+            if (contains(last, positionStart, itemCount)) {
+                // Removing some of the items inserted this frame.
+                last.itemCount -= itemCount;
+                if (last.itemCount == 0) {
+                    mOps.remove(mOps.size() - 1);
+                }
+                return;
+            }
+            if (positionStart <= last.positionStart &&
+                    positionStart + itemCount >= last.positionStart + last.itemCount) {
+                // Removing all of the items inserted this frame, and some that were already present.
+                mOps.remove(mOps.size() - 1);
+                if (itemCount > last.itemCount) {
+                    addRemove(positionStart, itemCount - last.itemCount);
+                }
+                return;
+            }
+        }
+        if (last != null && last.type == REMOVE) {
+            if (positionStart == last.positionStart) {
+                last.itemCount += itemCount;
+                return;
+            }
+            if (positionStart + itemCount == last.positionStart) {
+                last.positionStart = positionStart;
+                last.itemCount += itemCount;
+                return;
+            }
+        }
+        add(new Op(REMOVE, positionStart, itemCount, 0, null));
+    }
+
+    private void add(@NonNull Op op) {
+        if (mOps.size() >= MAX_OPS) {
+            onChanged();
+        } else {
+            mOps.add(op);
+        }
+    }
+
+    @Nullable
+    private Op lastOp() {
+        return mOps.isEmpty() ? null : mOps.get(mOps.size() - 1);
+    }
+
+    private void scheduleFlush() {
+        if (isSuspended()) {
+            flush();
+        } else {
+            postFrameCallback();
+        }
+    }
+
+    private void postFrameCallback() {
+        if (!mFrameCallbackPosted) {
+            mFrameCallbackPosted = true;
+            Choreographer.getInstance().postFrameCallback(mFrameCallback);
+        }
+    }
+
+    private void cancelFrameCallback() {
+        if (mFrameCallbackPosted) {
+            mFrameCallbackPosted = false;
+            Choreographer.getInstance().removeFrameCallback(mFrameCallback);
+        }
+    }
+
+    private static boolean contains(@NonNull Op op, int positionStart, int itemCount) {
+        return positionStart >= op.positionStart && positionStart + itemCount <= op.positionStart + op.itemCount;
+    }
+
+    private static boolean equal(@Nullable Object a, @Nullable Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static final class Op {
+
+        final int type;
+
+        int positionStart;
+
+        int itemCount;
+
+        final int toPosition;
+
+        @Nullable
+        final Object payload;
+
+        Op(int type, int positionStart, int itemCount, int toPosition, @Nullable Object payload) {
+            this.type = type;
+            this.positionStart = positionStart;
+            this.itemCount = itemCount;
+            this.toPosition = toPosition;
+            this.payload = payload;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.nextfaze.poweradapters.recyclerview;
 
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.util.SparseIntArray;
 import android.view.View;
 import android.view.View.OnAttachStateChangeListener;
 import android.view.ViewGroup;
@@ -14,17 +17,34 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
 import androidx.collection.ArrayMap;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.recyclerview.widget.RecyclerView.AdapterDataObserver;
 
 import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 
 public class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConverterAdapter.ViewHolder> {
 
+    /** The default capacity of a {@link RecyclerView.RecycledViewPool} for each view type. */
+    private static final int DEFAULT_POOL_SIZE = 5;
+
+    /**
+     * The maximum number of single item moves a range move is translated into. {@link RecyclerView} reorders pending
+     * update ops against each other, so beyond this a removal and insertion is cheaper than preserving the views.
+     */
+    private static final int MAX_MOVE_NOTIFICATIONS = 16;
+
+    /** The default number of items beyond those visible that are hinted as about to be bound while scrolling. */
+    private static final int DEFAULT_PREFETCH_DISTANCE = 4;
+
     @NonNull
     private final WeakMap<RecyclerView, RecyclerViewContainer> mRecyclerViewToContainer = new WeakMap<>();
 
@@ -41,32 +61,32 @@ public class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConve
     private final DataObserver mDataObserver = new DataObserver() {
         @Override
         public void onChanged() {
+            resetPrefetched();
             notifyDataSetChanged();
         }
 
         @Override
         public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+            resetPrefetched();
             notifyItemRangeChanged(positionStart, itemCount, payload);
         }
 
         @Override
         public void onItemRangeInserted(int positionStart, int itemCount) {
+            resetPrefetched();
             notifyItemRangeInserted(positionStart, itemCount);
         }
 
         @Override
         public void onItemRangeRemoved(int positionStart, int itemCount) {
+            resetPrefetched();
             notifyItemRangeRemoved(positionStart, itemCount);
         }
 
         @Override
         public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
-            if (itemCount == 1) {
-                notifyItemMoved(fromPosition, toPosition);
-            } else {
-                // TODO: There's likely a more specific (series of?) calls we can make here instead of generic "changed" fallback.
-                notifyDataSetChanged();
-            }
+            resetPrefetched();
+            notifyItemRangeMovedCompat(fromPosition, toPosition, itemCount);
         }
     };
 
@@ -80,6 +100,23 @@ public class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConve
 
     private boolean mObserving;
 
+    /** Buffers notifications until the next frame, if coalescing is enabled. */
+    @Nullable
+    private NotificationCoalescer mCoalescer;
+
+    private boolean mAutoSizeRecycledViewPool;
+
+    private int mPrefetchDistance = DEFAULT_PREFETCH_DISTANCE;
+
+    /**
+     * A view created ahead of time, to be consumed by the {@link #onCreateViewHolder(ViewGroup, int)} call it's being
+     * pooled by, if that's for the same view type.
+     */
+    @Nullable
+    private View mPreInflatedView;
+
+    private int mPreInflatedViewType;
+
     public RecyclerConverterAdapter(@NonNull PowerAdapter powerAdapter) {
         mPowerAdapter = checkNotNull(powerAdapter, "powerAdapter");
         super.setHasStableIds(mPowerAdapter.hasStableIds());
@@ -92,16 +129,22 @@ public class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConve
 
     @Override
     public final int getItemCount() {
+        if (mCoalescer != null && mCoalescer.hasPendingNotifications()) {
+            // Report the count the RecyclerView has been notified of, so it remains consistent until the flush.
+            return mCoalescer.getDispatchedItemCount();
+        }
         return mPowerAdapter.getItemCount();
     }
 
     @Override
     public final long getItemId(int position) {
+        flushBeforeAccess();
         return mPowerAdapter.getItemId(position);
     }
 
     @Override
     public final int getItemViewType(int position) {
+        flushBeforeAccess();
         Object viewType = mPowerAdapter.getItemViewType(position);
         Integer viewTypeInt = mViewTypeObjectToInt.get(viewType);
         if (viewTypeInt == null) {
@@ -112,9 +155,211 @@ public class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConve
         return viewTypeInt;
     }
 
+    /**
+     * Translates a range move into the {@link RecyclerView} notifications that reorder the fewest items, since {@link
+     * RecyclerView} only supports moves of single items. Either the moved items or the items they were moved past are
+     * moved one at a time, whichever are fewer. If too many single moves would be required, the range is removed and
+     * inserted instead, which rebinds the moved items but keeps the rest of the views intact.
+     */
+    void notifyItemRangeMovedCompat(int fromPosition, int toPosition, int itemCount) {
+        int displacedCount = abs(toPosition - fromPosition);
+        if (itemCount <= 0 || displacedCount == 0) {
+            return;
+        }
+        if (min(itemCount, displacedCount) > MAX_MOVE_NOTIFICATIONS) {
+            notifyItemRangeRemoved(fromPosition, itemCount);
+            notifyItemRangeInserted(toPosition, itemCount);
+        } else if (toPosition > fromPosition) {
+            if (itemCount <= displacedCount) {
+                // Move each item to the end of the affected region, preserving their order.
+                for (int i = 0; i < itemCount; i++) {
+                    notifyItemMoved(fromPosition, toPosition + itemCount - 1);
+                }
+            } else {
+                // Move each displaced item back before the moved items.
+                for (int i = 0; i < displacedCount; i++) {
+                    notifyItemMoved(fromPosition + itemCount + i, fromPosition + i);
+                }
+            }
+        } else {
+            if (itemCount <= displacedCount) {
+                for (int i = 0; i < itemCount; i++) {
+                    notifyItemMoved(fromPosition + i, toPosition + i);
+                }
+            } else {
+                // Move each displaced item to the end of the affected region, preserving their order.
+                for (int i = 0; i < displacedCount; i++) {
+                    notifyItemMoved(toPosition, fromPosition + itemCount - 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether notifications from the wrapped adapter are coalesced until the next frame.
+     * @see #setCoalesceNotifications(boolean)
+     */
+    public final boolean isCoalesceNotifications() {
+        return mCoalescer != null;
+    }
+
+    /**
+     * Sets whether notifications from the wrapped adapter are buffered and dispatched together at the start of the
+     * next frame, before layout. Adjacent inserts, removes, and changes are merged, and items inserted then removed
+     * within the frame cancel out, so a burst of notifications from a chain of adapters results in a minimal set of
+     * {@link RecyclerView} updates. Disabled by default.
+     * <p>
+     * While notifications are pending, {@link #getItemCount()} continues to report the count the {@link RecyclerView}
+     * was last notified of, and they're flushed before the wrapped adapter is accessed by position outside of layout.
+     * Notifications aren't buffered while any {@link RecyclerView} is scrolling, nor until the frame after it stops, so
+     * neither scrolling nor {@link RecyclerView}'s own prefetching binds items against data it hasn't been notified
+     * of. Call {@link #flushPendingNotifications()} before calling {@link RecyclerView#scrollBy(int, int)} or otherwise
+     * laying out the {@link RecyclerView} synchronously in response to a change.
+     */
+    @UiThread
+    public final void setCoalesceNotifications(boolean coalesceNotifications) {
+        if (coalesceNotifications != isCoalesceNotifications()) {
+            if (mObserving) {
+                mPowerAdapter.unregisterDataObserver(getDataObserver());
+            }
+            if (mCoalescer != null) {
+                mCoalescer.flush();
+                mCoalescer = null;
+            } else {
+                mCoalescer = new NotificationCoalescer(mPowerAdapter, mDataObserver);
+                mCoalescer.reset();
+                updateCoalescerSuspended();
+            }
+            if (mObserving) {
+                mPowerAdapter.registerDataObserver(getDataObserver());
+            }
+        }
+    }
+
+    /** Dispatches any notifications buffered while coalescing, without waiting for the next frame. */
+    @UiThread
+    public final void flushPendingNotifications() {
+        if (mCoalescer != null) {
+            mCoalescer.flush();
+        }
+    }
+
+    /**
+     * Returns the number of items beyond those visible that are prefetched while scrolling.
+     * @see #setPrefetchDistance(int)
+     */
+    public final int getPrefetchDistance() {
+        return mPrefetchDistance;
+    }
+
+    /**
+     * Sets the number of items beyond those visible that are {@linkplain PowerAdapter#prefetch(int) prefetched} in
+     * the direction of scrolling, so binders can prepare them in the background ahead of {@link RecyclerView}'s own
+     * prefetching and binding. Set to 0 to disable. Defaults to 4.
+     */
+    public final void setPrefetchDistance(int prefetchDistance) {
+        if (prefetchDistance < 0) {
+            throw new IllegalArgumentException("prefetchDistance < 0");
+        }
+        mPrefetchDistance = prefetchDistance;
+    }
+
+    /**
+     * Returns whether the {@link RecyclerView.RecycledViewPool} capacity of each view type is raised automatically.
+     * @see #setAutoSizeRecycledViewPool(boolean)
+     */
+    public final boolean isAutoSizeRecycledViewPool() {
+        return mAutoSizeRecycledViewPool;
+    }
+
+    /**
+     * Sets whether the {@link RecyclerView.RecycledViewPool} capacity of each view type is raised automatically to the
+     * greatest number of views of that type that have been attached at once to its {@link RecyclerView}. This prevents
+     * views being discarded and later reinflated when all attached views are recycled together, such as after {@link
+     * #notifyDataSetChanged()}. Capacities are never lowered. Disabled by default.
+     */
+    public final void setAutoSizeRecycledViewPool(boolean autoSizeRecycledViewPool) {
+        mAutoSizeRecycledViewPool = autoSizeRecycledViewPool;
+    }
+
+    /**
+     * Creates views of the same type as the item at the specified position ahead of time, and places them in the
+     * recycled view pool of the specified {@link RecyclerView}, so that items of that type don't need to be inflated
+     * when they first scroll into view. Only as many views as needed to fill the pool to {@code count} are created. The
+     * pool capacity of the view type is raised to {@code count} if necessary.
+     * <p>
+     * If {@code executor} is {@code null}, the views are created on the UI thread, one at a time whenever the main
+     * thread is idle. Otherwise they're created using {@code executor}, which is only safe if the wrapped adapter's
+     * {@link PowerAdapter#newView(ViewGroup, Object)} may be called off the UI thread for this view type, for example
+     * if it simply inflates a layout. Either way, the views are placed in the pool on the UI thread.
+     * @param recyclerView The {@link RecyclerView} this adapter is, or will be, attached to.
+     * @param position The position of an item whose view type is to be pre-inflated.
+     * @param count The number of views of this type the pool should hold.
+     * @param executor Used to create the views, or {@code null} to create them on the UI thread.
+     */
+    @UiThread
+    public final void preInflate(@NonNull final RecyclerView recyclerView,
+                                 int position,
+                                 int count,
+                                 @Nullable Executor executor) {
+        checkNotNull(recyclerView, "recyclerView");
+        // Resolving the view type also prepares the wrapped adapter to create views of that type.
+        final int itemViewType = getItemViewType(position);
+        final Object viewType = mViewTypeIntToObject.get(itemViewType);
+        final RecyclerView.RecycledViewPool pool = recyclerView.getRecycledViewPool();
+        final int createCount = count - pool.getRecycledViewCount(itemViewType);
+        if (createCount <= 0) {
+            return;
+        }
+        RecyclerViewContainer container = getContainer(recyclerView);
+        container.ensurePoolSize(itemViewType, count);
+        container.applyPoolSize(itemViewType);
+        if (executor == null) {
+            Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler() {
+
+                private int mRemaining = createCount;
+
+                @Override
+                public boolean queueIdle() {
+                    pool.putRecycledView(createViewHolder(recyclerView, itemViewType));
+                    return --mRemaining > 0;
+                }
+            });
+        } else {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < createCount; i++) {
+                        final View view = mPowerAdapter.newView(recyclerView, viewType);
+                        recyclerView.post(new Runnable() {
+                            @Override
+                            public void run() {
+                                mPreInflatedView = view;
+                                mPreInflatedViewType = itemViewType;
+                                try {
+                                    pool.putRecycledView(createViewHolder(recyclerView, itemViewType));
+                                } finally {
+                                    // Not consumed if a subclass doesn't call through to onCreateViewHolder().
+                                    mPreInflatedView = null;
+                                }
+                            }
+                        });
+                    }
+                }
+            });
+        }
+    }
+
     @Override
     public ViewHolder onCreateViewHolder(ViewGroup parent, int itemViewType) {
-        View itemView = mPowerAdapter.newView(parent, mViewTypeIntToObject.get(itemViewType));
+        View itemView = null;
+        if (mPreInflatedView != null && mPreInflatedViewType == itemViewType) {
+            itemView = mPreInflatedView;
+            mPreInflatedView = null;
+        }
+        if (itemView == null) {
+            itemView = mPowerAdapter.newView(parent, mViewTypeIntToObject.get(itemViewType));
+        }
         return new ViewHolder(itemView, getContainer((RecyclerView) parent));
     }
 
@@ -125,9 +370,22 @@ public class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConve
 
     @Override
     public void onBindViewHolder(ViewHolder holder, int position, List<Object> payloads) {
+        flushBeforeAccess();
         mPowerAdapter.bindView(holder.container, holder.itemView, holder.holder, payloads);
     }
 
+    @Override
+    public void onViewAttachedToWindow(ViewHolder holder) {
+        super.onViewAttachedToWindow(holder);
+        holder.container.onViewAttached(holder.getItemViewType());
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(ViewHolder holder) {
+        holder.container.onViewDetached(holder.getItemViewType());
+        super.onViewDetachedFromWindow(holder);
+    }
+
     @Override
     public final void registerAdapterDataObserver(RecyclerView.AdapterDataObserver observer) {
         super.registerAdapterDataObserver(observer);
@@ -148,6 +406,7 @@ public class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConve
         RecyclerViewContainer container = getContainer(recyclerView);
         container.onAdapterAttached();
         updateObserver();
+        container.applyPoolSizes();
     }
 
     @Override
@@ -163,16 +422,59 @@ public class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConve
         boolean observe = !mAdapterDataObservers.isEmpty() && !mAttachedRecyclerViews.isEmpty();
         if (observe != mObserving) {
             if (mObserving) {
-                mPowerAdapter.unregisterDataObserver(mDataObserver);
+                mPowerAdapter.unregisterDataObserver(getDataObserver());
             }
             mObserving = observe;
+            if (mCoalescer != null) {
+                // Either way, buffered notifications are superseded.
+                mCoalescer.reset();
+            }
             if (mObserving) {
                 notifyDataSetChanged();
-                mPowerAdapter.registerDataObserver(mDataObserver);
+                mPowerAdapter.registerDataObserver(getDataObserver());
+            }
+        }
+    }
+
+    /** Discards the prefetched ranges of each {@link RecyclerView}, as the positions they refer to have changed. */
+    void resetPrefetched() {
+        for (RecyclerView recyclerView : mAttachedRecyclerViews) {
+            getContainer(recyclerView).resetPrefetched();
+        }
+    }
+
+    /** Dispatches buffered notifications before the wrapped adapter is accessed by position, unless in layout. */
+    private void flushBeforeAccess() {
+        if (mCoalescer != null && mCoalescer.hasPendingNotifications()) {
+            for (RecyclerView recyclerView : mAttachedRecyclerViews) {
+                if (recyclerView.isComputingLayout()) {
+                    // RecyclerView forbids notifications during layout or scrolling.
+                    return;
+                }
+            }
+            mCoalescer.flush();
+        }
+    }
+
+    /** Suspends coalescing while any attached {@link RecyclerView} is scrolling. */
+    void updateCoalescerSuspended() {
+        if (mCoalescer != null) {
+            boolean scrolling = false;
+            for (RecyclerView recyclerView : mAttachedRecyclerViews) {
+                if (recyclerView.getScrollState() != RecyclerView.SCROLL_STATE_IDLE) {
+                    scrolling = true;
+                    break;
+                }
             }
+            mCoalescer.setSuspended(scrolling);
         }
     }
 
+    @NonNull
+    private DataObserver getDataObserver() {
+        return mCoalescer != null ? mCoalescer : mDataObserver;
+    }
+
     @NonNull
     private RecyclerViewContainer getContainer(@NonNull RecyclerView recyclerView) {
         RecyclerViewContainer container = mRecyclerViewToContainer.get(recyclerView);
@@ -228,9 +530,38 @@ public class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConve
             }
         };
 
+        @NonNull
+        private final RecyclerView.OnScrollListener mOnScrollListener = new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrollStateChanged(@NonNull RecyclerView recyclerView, int newState) {
+                updateCoalescerSuspended();
+            }
+
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                prefetchAhead();
+            }
+        };
+
         @NonNull
         private final RecyclerView mRecyclerView;
 
+        /** Recycled view pool capacity of each view type, for those raised above the default. */
+        @NonNull
+        private final SparseIntArray mPoolSizes = new SparseIntArray();
+
+        /** Number of views of each view type currently attached to a window. */
+        @NonNull
+        private final SparseIntArray mAttachedCounts = new SparseIntArray();
+
+        /** The range of visible positions as of the last scroll, used to determine the direction of scrolling. */
+        private int mFirstVisiblePosition = RecyclerView.NO_POSITION;
+        private int mLastVisiblePosition = RecyclerView.NO_POSITION;
+
+        /** The furthest positions already prefetched beyond each end of the visible range, while moving that way. */
+        private int mPrefetchedBefore = Integer.MAX_VALUE;
+        private int mPrefetchedAfter = RecyclerView.NO_POSITION;
+
         RecyclerViewContainer(@NonNull RecyclerView recyclerView) {
             mRecyclerView = recyclerView;
         }
@@ -259,14 +590,96 @@ public class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConve
 
         void onAdapterAttached() {
             mRecyclerView.addOnAttachStateChangeListener(mOnAttachStateChangeListener);
+            mRecyclerView.addOnScrollListener(mOnScrollListener);
             updatePresenceInSet();
         }
 
         void onAdapterDetached() {
             mRecyclerView.removeOnAttachStateChangeListener(mOnAttachStateChangeListener);
+            mRecyclerView.removeOnScrollListener(mOnScrollListener);
             updatePresenceInSet();
         }
 
+        /**
+         * Prefetches the positions just beyond the visible range, on the side it's moving towards. The direction is
+         * derived from the visible positions rather than the scroll delta, so reversed layouts are handled too.
+         */
+        void prefetchAhead() {
+            int distance = mPrefetchDistance;
+            if (distance <= 0 || !mObserving || mCoalescer != null && mCoalescer.hasPendingNotifications()) {
+                return;
+            }
+            int first = Integer.MAX_VALUE;
+            int last = RecyclerView.NO_POSITION;
+            for (int i = 0; i < mRecyclerView.getChildCount(); i++) {
+                int position = mRecyclerView.getChildAdapterPosition(mRecyclerView.getChildAt(i));
+                if (position != RecyclerView.NO_POSITION) {
+                    first = min(first, position);
+                    last = max(last, position);
+                }
+            }
+            if (last == RecyclerView.NO_POSITION) {
+                return;
+            }
+            int itemCount = mPowerAdapter.getItemCount();
+            if (mLastVisiblePosition != RecyclerView.NO_POSITION && last > mLastVisiblePosition) {
+                int end = min(last + distance, itemCount - 1);
+                for (int position = max(last, mPrefetchedAfter) + 1; position <= end; position++) {
+                    mPowerAdapter.prefetch(position);
+                }
+                mPrefetchedAfter = max(mPrefetchedAfter, end);
+                mPrefetchedBefore = Integer.MAX_VALUE;
+            } else if (mFirstVisiblePosition != RecyclerView.NO_POSITION && first < mFirstVisiblePosition) {
+                int end = max(first - distance, 0);
+                for (int position = min(first, mPrefetchedBefore) - 1; position >= end; position--) {
+                    mPowerAdapter.prefetch(position);
+                }
+                mPrefetchedBefore = min(mPrefetchedBefore, end);
+                mPrefetchedAfter = RecyclerView.NO_POSITION;
+            }
+            mFirstVisiblePosition = first;
+            mLastVisiblePosition = last;
+        }
+
+        void onViewAttached(int itemViewType) {
+            int attachedCount = mAttachedCounts.get(itemViewType) + 1;
+            mAttachedCounts.put(itemViewType, attachedCount);
+            if (mAutoSizeRecycledViewPool && ensurePoolSize(itemViewType, attachedCount)) {
+                applyPoolSize(itemViewType);
+            }
+        }
+
+        void onViewDetached(int itemViewType) {
+            mAttachedCounts.put(itemViewType, max(0, mAttachedCounts.get(itemViewType) - 1));
+        }
+
+        /** Raises the recorded pool capacity of a view type to at least {@code size}, returning whether it changed. */
+        boolean ensurePoolSize(int itemViewType, int size) {
+            if (size > mPoolSizes.get(itemViewType, DEFAULT_POOL_SIZE)) {
+                mPoolSizes.put(itemViewType, size);
+                return true;
+            }
+            return false;
+        }
+
+        void applyPoolSize(int itemViewType) {
+            int size = mPoolSizes.get(itemViewType, DEFAULT_POOL_SIZE);
+            if (size > DEFAULT_POOL_SIZE) {
+                mRecyclerView.getRecycledViewPool().setMaxRecycledViews(itemViewType, size);
+            }
+        }
+
+        void applyPoolSizes() {
+            for (int i = 0; i < mPoolSizes.size(); i++) {
+                applyPoolSize(mPoolSizes.keyAt(i));
+            }
+        }
+
+        void resetPrefetched() {
+            mPrefetchedBefore = Integer.MAX_VALUE;
+            mPrefetchedAfter = RecyclerView.NO_POSITION;
+        }
+
         void updatePresenceInSet() {
             if (mRecyclerView.isAttachedToWindow()) {
                 mAttachedRecyclerViews.add(mRecyclerView);
@@ -274,6 +687,7 @@ public class RecyclerConverterAdapter extends RecyclerView.Adapter<RecyclerConve
                 mAttachedRecyclerViews.remove(mRecyclerView);
             }
             updateObserver();
+            updateCoalescerSuspended();
         }
     }
 }
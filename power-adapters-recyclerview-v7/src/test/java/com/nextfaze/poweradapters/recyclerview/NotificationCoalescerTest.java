@@ -0,0 +1,194 @@
+package com.nextfaze.poweradapters.recyclerview;
+
+import com.nextfaze.poweradapters.DataObserver;
+import com.nextfaze.poweradapters.test.FakeAdapter;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+@RunWith(RobolectricTestRunner.class)
+public final class NotificationCoalescerTest {
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    @Mock
+    private DataObserver mObserver;
+
+    private FakeAdapter mFakeAdapter;
+    private NotificationCoalescer mCoalescer;
+
+    @Before
+    public void setUp() throws Exception {
+        mFakeAdapter = new FakeAdapter(10);
+        mCoalescer = new NotificationCoalescer(mFakeAdapter, mObserver);
+        mCoalescer.reset();
+        mFakeAdapter.registerDataObserver(mCoalescer);
+    }
+
+    @Test
+    public void notificationsBufferedUntilNextFrame() {
+        mFakeAdapter.insert(3, 2);
+        verifyZeroInteractions(mObserver);
+        assertThat(mCoalescer.hasPendingNotifications()).isTrue();
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        verify(mObserver).onItemRangeInserted(3, 2);
+        verifyNoMoreInteractions(mObserver);
+        assertThat(mCoalescer.hasPendingNotifications()).isFalse();
+    }
+
+    @Test
+    public void dispatchedItemCountUnchangedUntilFlush() {
+        mFakeAdapter.insert(0, 5);
+        mFakeAdapter.remove(0, 2);
+        assertThat(mCoalescer.getDispatchedItemCount()).isEqualTo(10);
+        mCoalescer.flush();
+        assertThat(mCoalescer.getDispatchedItemCount()).isEqualTo(13);
+    }
+
+    @Test
+    public void adjacentInsertsMerged() {
+        mFakeAdapter.insert(3, 2);
+        mFakeAdapter.insert(5, 4);
+        mFakeAdapter.insert(3, 1);
+        mCoalescer.flush();
+        verify(mObserver).onItemRangeInserted(3, 7);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void nonAdjacentInsertsNotMerged() {
+        mFakeAdapter.insert(3, 2);
+        mFakeAdapter.insert(8, 1);
+        mCoalescer.flush();
+        InOrder inOrder = inOrder(mObserver);
+        inOrder.verify(mObserver).onItemRangeInserted(3, 2);
+        inOrder.verify(mObserver).onItemRangeInserted(8, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void adjacentRemovesMerged() {
+        mFakeAdapter.remove(5, 2);
+        mFakeAdapter.remove(5, 1);
+        mFakeAdapter.remove(3, 2);
+        mCoalescer.flush();
+        verify(mObserver).onItemRangeRemoved(3, 5);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void overlappingChangesWithEqualPayloadsMerged() {
+        mFakeAdapter.change(2, 3, "a");
+        mFakeAdapter.change(4, 3, "a");
+        mFakeAdapter.change(1, 1, "a");
+        mCoalescer.flush();
+        verify(mObserver).onItemRangeChanged(1, 6, "a");
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void changesWithDifferentPayloadsNotMerged() {
+        mFakeAdapter.change(2, 3, "a");
+        mFakeAdapter.change(5, 1, "b");
+        mCoalescer.flush();
+        InOrder inOrder = inOrder(mObserver);
+        inOrder.verify(mObserver).onItemRangeChanged(2, 3, "a");
+        inOrder.verify(mObserver).onItemRangeChanged(5, 1, "b");
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void changeOfInsertedItemsDropped() {
+        mFakeAdapter.insert(3, 4);
+        mFakeAdapter.change(4, 2, null);
+        mCoalescer.flush();
+        verify(mObserver).onItemRangeInserted(3, 4);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void insertThenRemoveCancelsOut() {
+        mFakeAdapter.insert(3, 4);
+        mFakeAdapter.remove(3, 4);
+        assertThat(mCoalescer.hasPendingNotifications()).isFalse();
+        mCoalescer.flush();
+        verifyZeroInteractions(mObserver);
+    }
+
+    @Test
+    public void removeOfSomeInsertedItemsShrinksInsert() {
+        mFakeAdapter.insert(3, 4);
+        mFakeAdapter.remove(4, 2);
+        mCoalescer.flush();
+        verify(mObserver).onItemRangeInserted(3, 2);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeSpanningInsertedItemsRemovesOnlyPreexistingItems() {
+        mFakeAdapter.insert(3, 2);
+        mFakeAdapter.remove(3, 5);
+        mCoalescer.flush();
+        verify(mObserver).onItemRangeRemoved(3, 3);
+        verifyNoMoreInteractions(mObserver);
+        assertThat(mCoalescer.getDispatchedItemCount()).isEqualTo(7);
+    }
+
+    @Test
+    public void fullChangeSupersedesFineGrainedNotifications() {
+        mFakeAdapter.insert(3, 2);
+        mCoalescer.onChanged();
+        mFakeAdapter.remove(0, 1);
+        mCoalescer.flush();
+        verify(mObserver).onChanged();
+        verifyNoMoreInteractions(mObserver);
+        assertThat(mCoalescer.getDispatchedItemCount()).isEqualTo(11);
+    }
+
+    @Test
+    public void tooManyNotificationsDispatchedAsFullChange() {
+        for (int i = 0; i < 100; i++) {
+            mFakeAdapter.change(i % 2 == 0 ? 0 : 9, 1, i);
+        }
+        mCoalescer.flush();
+        verify(mObserver).onChanged();
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void suspendingDispatchesPendingAndSubsequentNotifications() {
+        mFakeAdapter.insert(3, 2);
+        mCoalescer.setSuspended(true);
+        verify(mObserver).onItemRangeInserted(3, 2);
+        mFakeAdapter.insert(5, 1);
+        verify(mObserver).onItemRangeInserted(5, 1);
+        assertThat(mCoalescer.hasPendingNotifications()).isFalse();
+    }
+
+    @Test
+    public void resumingTakesEffectFromNextFrame() {
+        mCoalescer.setSuspended(true);
+        mCoalescer.setSuspended(false);
+        mFakeAdapter.insert(3, 2);
+        verify(mObserver).onItemRangeInserted(3, 2);
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        mFakeAdapter.insert(5, 1);
+        assertThat(mCoalescer.hasPendingNotifications()).isTrue();
+        verifyNoMoreInteractions(mObserver);
+    }
+}
@@ -0,0 +1,210 @@
+package com.nextfaze.poweradapters.recyclerview;
+
+import android.app.Activity;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.nextfaze.poweradapters.Container;
+import com.nextfaze.poweradapters.Holder;
+import com.nextfaze.poweradapters.PowerAdapter;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import static android.view.View.MeasureSpec.EXACTLY;
+import static android.view.View.MeasureSpec.makeMeasureSpec;
+import static com.google.common.truth.Truth.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public final class RecyclerConverterAdapterTest {
+
+    private static final int ITEM_HEIGHT = 10;
+    private static final int RECYCLER_VIEW_SIZE = 100;
+
+    private static final int DEFAULT_POOL_SIZE = 5;
+
+    private final Executor mDirectExecutor = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable runnable) {
+            runnable.run();
+        }
+    };
+
+    private Activity mActivity;
+    private TestAdapter mAdapter;
+    private RecyclerConverterAdapter mConverterAdapter;
+    private RecyclerView mRecyclerView;
+
+    @Before
+    public void setUp() throws Exception {
+        mActivity = Robolectric.setupActivity(Activity.class);
+        mAdapter = new TestAdapter(100);
+        mConverterAdapter = new RecyclerConverterAdapter(mAdapter);
+        // Items 0 to 9 are visible.
+        mRecyclerView = addRecyclerView();
+    }
+
+    @Test
+    public void scrollingForwardPrefetchesItemsBeyondLastVisible() {
+        // Items 2 to 12 are now visible.
+        scrollBy(25);
+        assertThat(mAdapter.mPrefetched).containsExactly(13, 14, 15, 16).inOrder();
+    }
+
+    @Test
+    public void scrollingForwardFurtherOnlyPrefetchesNewItems() {
+        scrollBy(25);
+        scrollBy(10);
+        assertThat(mAdapter.mPrefetched).containsExactly(13, 14, 15, 16, 17).inOrder();
+    }
+
+    @Test
+    public void scrollingBackwardPrefetchesItemsBeforeFirstVisible() {
+        scrollBy(45);
+        mAdapter.mPrefetched.clear();
+        // Items 3 to 13 are now visible.
+        scrollBy(-10);
+        assertThat(mAdapter.mPrefetched).containsExactly(2, 1, 0).inOrder();
+    }
+
+    @Test
+    public void prefetchDistanceZeroDisablesPrefetching() {
+        mConverterAdapter.setPrefetchDistance(0);
+        scrollBy(25);
+        assertThat(mAdapter.mPrefetched).isEmpty();
+    }
+
+    @Test
+    public void dataChangeResetsPrefetchedRange() {
+        scrollBy(25);
+        mAdapter.change(0, 100);
+        mAdapter.mPrefetched.clear();
+        scrollBy(10);
+        assertThat(mAdapter.mPrefetched).containsExactly(14, 15, 16, 17).inOrder();
+    }
+
+    @Test
+    public void preInflateFillsPoolUsingExecutor() {
+        int itemViewType = mConverterAdapter.getItemViewType(0);
+        int newViewCount = mAdapter.mNewViewCount;
+        mConverterAdapter.preInflate(mRecyclerView, 0, 8, mDirectExecutor);
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mAdapter.mNewViewCount - newViewCount).isEqualTo(8);
+        assertThat(mRecyclerView.getRecycledViewPool().getRecycledViewCount(itemViewType)).isEqualTo(8);
+    }
+
+    @Test
+    public void preInflateOnlyCreatesViewsMissingFromPool() {
+        int itemViewType = mConverterAdapter.getItemViewType(0);
+        fillPool(mRecyclerView, 3);
+        int newViewCount = mAdapter.mNewViewCount;
+        mConverterAdapter.preInflate(mRecyclerView, 0, 5, mDirectExecutor);
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mAdapter.mNewViewCount - newViewCount).isEqualTo(2);
+        assertThat(mRecyclerView.getRecycledViewPool().getRecycledViewCount(itemViewType)).isEqualTo(5);
+    }
+
+    @Test
+    public void poolCapacityNotRaisedByDefault() {
+        assertThat(fillPool(mRecyclerView, 20)).isEqualTo(DEFAULT_POOL_SIZE);
+    }
+
+    @Test
+    public void autoSizeRaisesPoolCapacityToAttachedCount() {
+        mConverterAdapter.setAutoSizeRecycledViewPool(true);
+        RecyclerView recyclerView = addRecyclerView();
+        assertThat(fillPool(recyclerView, 20)).isEqualTo(10);
+    }
+
+    @Test
+    public void autoSizeCountsAttachedViewsOfEachRecyclerViewSeparately() {
+        mConverterAdapter.setAutoSizeRecycledViewPool(true);
+        RecyclerView recyclerView1 = addRecyclerView();
+        RecyclerView recyclerView2 = addRecyclerView();
+        assertThat(fillPool(recyclerView1, 30)).isEqualTo(10);
+        assertThat(fillPool(recyclerView2, 30)).isEqualTo(10);
+    }
+
+    @NonNull
+    private RecyclerView addRecyclerView() {
+        RecyclerView recyclerView = new RecyclerView(mActivity);
+        recyclerView.setLayoutManager(new LinearLayoutManager(mActivity));
+        recyclerView.setAdapter(mConverterAdapter);
+        mActivity.addContentView(recyclerView, new ViewGroup.LayoutParams(RECYCLER_VIEW_SIZE, RECYCLER_VIEW_SIZE));
+        int measureSpec = makeMeasureSpec(RECYCLER_VIEW_SIZE, EXACTLY);
+        recyclerView.measure(measureSpec, measureSpec);
+        recyclerView.layout(0, 0, RECYCLER_VIEW_SIZE, RECYCLER_VIEW_SIZE);
+        return recyclerView;
+    }
+
+    /** Offers {@code count} new views to the pool of the {@link RecyclerView}, returning how many it retains. */
+    private int fillPool(@NonNull RecyclerView recyclerView, int count) {
+        int itemViewType = mConverterAdapter.getItemViewType(0);
+        RecyclerView.RecycledViewPool pool = recyclerView.getRecycledViewPool();
+        for (int i = 0; i < count; i++) {
+            pool.putRecycledView(mConverterAdapter.createViewHolder(recyclerView, itemViewType));
+        }
+        return pool.getRecycledViewCount(itemViewType);
+    }
+
+    private void scrollBy(int dy) {
+        mRecyclerView.scrollBy(0, dy);
+    }
+
+    private static final class TestAdapter extends PowerAdapter {
+
+        final List<Integer> mPrefetched = new ArrayList<>();
+
+        int mNewViewCount;
+
+        private final int mItemCount;
+
+        TestAdapter(int itemCount) {
+            mItemCount = itemCount;
+        }
+
+        @Override
+        public int getItemCount() {
+            return mItemCount;
+        }
+
+        @NonNull
+        @Override
+        public View newView(@NonNull ViewGroup parent, @NonNull Object viewType) {
+            mNewViewCount++;
+            View view = new View(parent.getContext());
+            view.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ITEM_HEIGHT));
+            return view;
+        }
+
+        @Override
+        public void bindView(
+                @NonNull Container container,
+                @NonNull View view,
+                @NonNull Holder holder,
+                @NonNull List<Object> payloads
+        ) {
+        }
+
+        @Override
+        public void prefetch(int position) {
+            mPrefetched.add(position);
+        }
+
+        void change(int positionStart, int itemCount) {
+            notifyItemRangeChanged(positionStart, itemCount, null);
+        }
+    }
+}
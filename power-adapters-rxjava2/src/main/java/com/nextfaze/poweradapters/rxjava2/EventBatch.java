@@ -0,0 +1,66 @@
+package com.nextfaze.poweradapters.rxjava2;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+
+/**
+ * An ordered list of the change notifications received within a single main thread loop iteration, with adjacent
+ * compatible notifications coalesced.
+ */
+public final class EventBatch {
+
+    private final boolean mDataSetChanged;
+
+    @NonNull
+    private final List<Object> mEvents;
+
+    public EventBatch(boolean dataSetChanged, @NonNull List<Object> events) {
+        mDataSetChanged = dataSetChanged;
+        mEvents = checkNotNull(events, "events");
+    }
+
+    /**
+     * Indicates a coarse-grained change notification was received, so all existing items and structure may no longer
+     * be valid. Any fine-grained events preceding it are dropped, and {@link #getEvents()} contains only those received
+     * after it.
+     */
+    public boolean isDataSetChanged() {
+        return mDataSetChanged;
+    }
+
+    /**
+     * Returns the fine-grained events in the order they occurred. Each is an instance of {@link InsertEvent},
+     * {@link RemoveEvent}, {@link MoveEvent} or {@link ChangeEvent}.
+     */
+    @NonNull
+    public List<Object> getEvents() {
+        return mEvents;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EventBatch eventBatch = (EventBatch) o;
+        return mDataSetChanged == eventBatch.mDataSetChanged && mEvents.equals(eventBatch.mEvents);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = mDataSetChanged ? 1 : 0;
+        result = 31 * result + mEvents.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "EventBatch{dataSetChanged=" + mDataSetChanged + ", events=" + mEvents + "}";
+    }
+}
@@ -0,0 +1,119 @@
+package com.nextfaze.poweradapters.rxjava2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+
+/**
+ * A structural change to a list of elements, expressed as one of {@link InsertEvent}, {@link RemoveEvent},
+ * {@link MoveEvent} or {@link ChangeEvent}, along with any elements the change introduces.
+ * <p>
+ * Patches are applied directly at the positions they describe, without computing a diff, so producers that already
+ * know the exact changes can avoid materializing the entire list.
+ * @param <T> The element type.
+ */
+public final class Patch<T> {
+
+    @NonNull
+    private final Object mEvent;
+
+    @NonNull
+    private final List<? extends T> mElements;
+
+    private Patch(@NonNull Object event, @NonNull List<? extends T> elements) {
+        mEvent = event;
+        mElements = elements;
+    }
+
+    /** Inserts the specified elements at {@code position}. */
+    @NonNull
+    public static <T> Patch<T> insert(int position, @NonNull Collection<? extends T> elements) {
+        List<? extends T> list = copyOf(elements);
+        return new Patch<>(new InsertEvent(position, list.size()), list);
+    }
+
+    /** Removes {@code count} elements starting at {@code position}. */
+    @NonNull
+    public static <T> Patch<T> remove(int position, int count) {
+        return remove(new RemoveEvent(position, count));
+    }
+
+    /** Removes the range of elements described by the specified event. */
+    @NonNull
+    public static <T> Patch<T> remove(@NonNull RemoveEvent event) {
+        checkNotNull(event, "event");
+        return new Patch<>(event, Collections.<T>emptyList());
+    }
+
+    /** Moves {@code count} elements from {@code fromPosition}, such that they start at {@code toPosition}. */
+    @NonNull
+    public static <T> Patch<T> move(int fromPosition, int toPosition, int count) {
+        return move(new MoveEvent(fromPosition, toPosition, count));
+    }
+
+    /** Moves the range of elements described by the specified event. */
+    @NonNull
+    public static <T> Patch<T> move(@NonNull MoveEvent event) {
+        checkNotNull(event, "event");
+        return new Patch<>(event, Collections.<T>emptyList());
+    }
+
+    /**
+     * Replaces the elements starting at {@code position} with the specified elements, which are assumed to retain
+     * the identity of the elements they replace.
+     * @param payload Optional change payload metadata. Use {@code null} to identify a "full" update.
+     */
+    @NonNull
+    public static <T> Patch<T> change(int position,
+                                      @NonNull Collection<? extends T> elements,
+                                      @Nullable Object payload) {
+        List<? extends T> list = copyOf(elements);
+        return new Patch<>(new ChangeEvent(position, list.size(), payload), list);
+    }
+
+    /**
+     * Returns the event describing this change, which is an instance of {@link InsertEvent}, {@link RemoveEvent},
+     * {@link MoveEvent} or {@link ChangeEvent}.
+     */
+    @NonNull
+    public Object getEvent() {
+        return mEvent;
+    }
+
+    /** Returns the elements introduced by an insert or change. Empty for removes and moves. */
+    @NonNull
+    public List<? extends T> getElements() {
+        return mElements;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Patch<?> patch = (Patch<?>) o;
+        return mEvent.equals(patch.mEvent) && mElements.equals(patch.mElements);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = mEvent.hashCode();
+        result = 31 * result + mElements.hashCode();
+        return result;
+    }
+
+    @NonNull
+    private static <T> List<? extends T> copyOf(@NonNull Collection<? extends T> elements) {
+        checkNotNull(elements, "elements");
+        return Collections.unmodifiableList(new ArrayList<>(elements));
+    }
+}
@@ -3,6 +3,7 @@ package com.nextfaze.poweradapters.rxjava2;
 import com.nextfaze.poweradapters.DataObserver;
 import com.nextfaze.poweradapters.PowerAdapter;
 import com.nextfaze.poweradapters.SimpleDataObserver;
+import com.nextfaze.poweradapters.rxjava2.internal.EventBatcher;
 
 import androidx.annotation.CheckResult;
 import androidx.annotation.NonNull;
@@ -147,6 +148,32 @@ public final class RxPowerAdapter {
         });
     }
 
+    /**
+     * Emits all change notifications of the specified {@link PowerAdapter} using a single observer. Notifications received
+     * within the same main thread loop iteration are coalesced where possible, and emitted together as one
+     * {@link EventBatch}.
+     */
+    @CheckResult
+    @NonNull
+    public static Observable<EventBatch> events(@NonNull final PowerAdapter adapter) {
+        checkNotNull(adapter, "adapter");
+        return Observable.create(new ObservableOnSubscribe<EventBatch>() {
+            @Override
+            public void subscribe(final ObservableEmitter<EventBatch> emitter) throws Exception {
+                verifyMainThread();
+                final EventBatcher batcher = new EventBatcher(emitter);
+                adapter.registerDataObserver(batcher);
+                emitter.setDisposable(new MainThreadDisposable() {
+                    @Override
+                    protected void onDispose() {
+                        adapter.unregisterDataObserver(batcher);
+                        batcher.dispose();
+                    }
+                });
+            }
+        });
+    }
+
     static class Observer extends SimpleDataObserver {
         @Override
         public void onChanged() {
@@ -1,10 +1,16 @@
 package com.nextfaze.poweradapters.rxjava2.internal;
 
 import com.nextfaze.poweradapters.internal.DataObservable;
+import com.nextfaze.poweradapters.rxjava2.ChangeEvent;
 import com.nextfaze.poweradapters.rxjava2.EqualityFunction;
+import com.nextfaze.poweradapters.rxjava2.InsertEvent;
+import com.nextfaze.poweradapters.rxjava2.MoveEvent;
+import com.nextfaze.poweradapters.rxjava2.Patch;
+import com.nextfaze.poweradapters.rxjava2.RemoveEvent;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -23,6 +29,7 @@ import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
 import static com.nextfaze.poweradapters.rxjava2.internal.Utils.mainThreadCompletable;
 import static com.nextfaze.poweradapters.rxjava2.internal.Utils.mainThreadObservable;
 import static io.reactivex.schedulers.Schedulers.computation;
+import static java.lang.Math.max;
 import static java.lang.Math.min;
 
 /** For internal use only. */
@@ -100,6 +107,59 @@ public final class DiffList<T> {
         });
     }
 
+    /** Applies the specified patch at the positions it describes, issuing only the notifications it implies. */
+    @NonNull
+    public Completable patch(@NonNull final Patch<? extends T> patch) {
+        checkNotNull(patch, "patch");
+        return mainThreadCompletable(new Action() {
+            @Override
+            public void run() throws Exception {
+                applyPatch(patch);
+            }
+        });
+    }
+
+    void applyPatch(@NonNull Patch<? extends T> patch) {
+        Object event = patch.getEvent();
+        List<? extends T> elements = patch.getElements();
+        if (event instanceof InsertEvent) {
+            int position = ((InsertEvent) event).getPosition();
+            mData.addAll(position, elements);
+            mDataObservable.notifyItemRangeInserted(position, elements.size());
+        } else if (event instanceof RemoveEvent) {
+            RemoveEvent removeEvent = (RemoveEvent) event;
+            int position = removeEvent.getPosition();
+            int count = removeEvent.getCount();
+            mData.subList(position, position + count).clear();
+            mDataObservable.notifyItemRangeRemoved(position, count);
+        } else if (event instanceof MoveEvent) {
+            MoveEvent moveEvent = (MoveEvent) event;
+            int fromPosition = moveEvent.getFromPosition();
+            int toPosition = moveEvent.getToPosition();
+            int count = moveEvent.getCount();
+            if (count > 0 && fromPosition != toPosition) {
+                // Rotating the affected span moves the whole block in a single pass.
+                int start = min(fromPosition, toPosition);
+                int end = max(fromPosition, toPosition) + count;
+                Collections.rotate(mData.subList(start, end), toPosition - fromPosition);
+                mDataObservable.notifyItemRangeMoved(fromPosition, toPosition, count);
+            }
+        } else if (event instanceof ChangeEvent) {
+            int position = ((ChangeEvent) event).getPosition();
+            // Checked up front, so an overrunning change doesn't leave the list partially updated without notifying.
+            if (position < 0 || position + elements.size() > mData.size()) {
+                throw new IndexOutOfBoundsException("Position: " + position + ", count: " + elements.size() +
+                        ", size: " + mData.size());
+            }
+            for (int i = 0; i < elements.size(); i++) {
+                mData.set(position + i, elements.get(i));
+            }
+            mDataObservable.notifyItemRangeChanged(position, elements.size(), ((ChangeEvent) event).getPayload());
+        } else {
+            throw new IllegalArgumentException("Unsupported patch event: " + event);
+        }
+    }
+
     @NonNull
     public Completable overwrite(@NonNull Collection<? extends T> collection) {
         checkNotNull(collection, "collection");
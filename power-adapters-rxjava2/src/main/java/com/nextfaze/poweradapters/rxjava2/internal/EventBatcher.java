@@ -0,0 +1,171 @@
+package com.nextfaze.poweradapters.rxjava2.internal;
+
+import com.nextfaze.poweradapters.DataObserver;
+import com.nextfaze.poweradapters.rxjava2.ChangeEvent;
+import com.nextfaze.poweradapters.rxjava2.EventBatch;
+import com.nextfaze.poweradapters.rxjava2.InsertEvent;
+import com.nextfaze.poweradapters.rxjava2.MoveEvent;
+import com.nextfaze.poweradapters.rxjava2.RemoveEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+import io.reactivex.ObservableEmitter;
+import io.reactivex.disposables.Disposable;
+
+import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+import static io.reactivex.android.schedulers.AndroidSchedulers.mainThread;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * For internal use only.
+ * <p>
+ * Collects notifications received on the main thread, coalescing each with the previous one where possible, and emits
+ * them as a single {@link EventBatch} on the next main thread loop iteration. Must only be used on the main thread.
+ */
+@RestrictTo(LIBRARY_GROUP)
+public final class EventBatcher implements DataObserver {
+
+    @NonNull
+    private final ObservableEmitter<EventBatch> mEmitter;
+
+    @NonNull
+    private final Runnable mFlushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            mFlushScheduled = false;
+            flush();
+        }
+    };
+
+    @NonNull
+    private final ArrayList<Object> mEvents = new ArrayList<>();
+
+    private boolean mDataSetChanged;
+
+    private boolean mFlushScheduled;
+
+    @Nullable
+    private Disposable mFlush;
+
+    public EventBatcher(@NonNull ObservableEmitter<EventBatch> emitter) {
+        mEmitter = checkNotNull(emitter, "emitter");
+    }
+
+    @Override
+    public void onChanged() {
+        // Everything that came before is superseded.
+        mEvents.clear();
+        mDataSetChanged = true;
+        scheduleFlush();
+    }
+
+    @Override
+    public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+        Object last = last();
+        if (last instanceof ChangeEvent) {
+            ChangeEvent e = (ChangeEvent) last;
+            // Merge overlapping or adjacent ranges that share the same payload.
+            if (equal(e.getPayload(), payload) &&
+                    positionStart <= e.getPosition() + e.getCount() &&
+                    e.getPosition() <= positionStart + itemCount) {
+                int start = min(e.getPosition(), positionStart);
+                int end = max(e.getPosition() + e.getCount(), positionStart + itemCount);
+                replaceLast(new ChangeEvent(start, end - start, payload));
+                return;
+            }
+        }
+        add(new ChangeEvent(positionStart, itemCount, payload));
+    }
+
+    @Override
+    public void onItemRangeInserted(int positionStart, int itemCount) {
+        Object last = last();
+        if (last instanceof InsertEvent) {
+            InsertEvent e = (InsertEvent) last;
+            // Inserting anywhere within or at either end of the previously inserted range extends it.
+            if (positionStart >= e.getPosition() && positionStart <= e.getPosition() + e.getCount()) {
+                replaceLast(new InsertEvent(e.getPosition(), e.getCount() + itemCount));
+                return;
+            }
+        }
+        add(new InsertEvent(positionStart, itemCount));
+    }
+
+    @Override
+    public void onItemRangeRemoved(int positionStart, int itemCount) {
+        Object last = last();
+        if (last instanceof RemoveEvent) {
+            RemoveEvent e = (RemoveEvent) last;
+            // Removing the range immediately following or preceding the previously removed range extends it.
+            if (positionStart == e.getPosition()) {
+                replaceLast(new RemoveEvent(e.getPosition(), e.getCount() + itemCount));
+                return;
+            }
+            if (positionStart + itemCount == e.getPosition()) {
+                replaceLast(new RemoveEvent(positionStart, e.getCount() + itemCount));
+                return;
+            }
+        }
+        add(new RemoveEvent(positionStart, itemCount));
+    }
+
+    @Override
+    public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+        add(new MoveEvent(fromPosition, toPosition, itemCount));
+    }
+
+    /** Cancels any pending emission. */
+    public void dispose() {
+        if (mFlush != null) {
+            mFlush.dispose();
+            mFlush = null;
+        }
+        mFlushScheduled = false;
+        mEvents.clear();
+        mDataSetChanged = false;
+    }
+
+    void flush() {
+        if (mDataSetChanged || !mEvents.isEmpty()) {
+            List<Object> events = mEvents.isEmpty() ?
+                    Collections.<Object>emptyList() :
+                    Collections.unmodifiableList(new ArrayList<>(mEvents));
+            EventBatch batch = new EventBatch(mDataSetChanged, events);
+            mEvents.clear();
+            mDataSetChanged = false;
+            mEmitter.onNext(batch);
+        }
+    }
+
+    private static boolean equal(@Nullable Object a, @Nullable Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    @Nullable
+    private Object last() {
+        return mEvents.isEmpty() ? null : mEvents.get(mEvents.size() - 1);
+    }
+
+    private void replaceLast(@NonNull Object event) {
+        mEvents.set(mEvents.size() - 1, event);
+    }
+
+    private void add(@NonNull Object event) {
+        mEvents.add(event);
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (!mFlushScheduled) {
+            mFlushScheduled = true;
+            mFlush = mainThread().scheduleDirect(mFlushRunnable);
+        }
+    }
+}
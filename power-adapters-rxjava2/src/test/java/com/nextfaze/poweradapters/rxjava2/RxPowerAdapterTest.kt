@@ -1,6 +1,10 @@
 package com.nextfaze.poweradapters.rxjava2
 
+import com.nextfaze.poweradapters.internal.NotificationType
 import com.nextfaze.poweradapters.test.FakeAdapter
+import io.reactivex.android.plugins.RxAndroidPlugins
+import io.reactivex.schedulers.TestScheduler
+import org.junit.After
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -10,9 +14,16 @@ import org.robolectric.RobolectricTestRunner
 class RxPowerAdapterTest {
 
     private lateinit var adapter: FakeAdapter
+    private lateinit var mainThreadScheduler: TestScheduler
 
     @Before fun setUp() {
         adapter = FakeAdapter()
+        mainThreadScheduler = TestScheduler()
+        RxAndroidPlugins.setMainThreadSchedulerHandler { mainThreadScheduler }
+    }
+
+    @After fun tearDown() {
+        RxAndroidPlugins.reset()
     }
 
     @Test fun itemCount() {
@@ -49,4 +60,61 @@ class RxPowerAdapterTest {
         adapter.move(1, 2, 1)
         testObserver.assertNotTerminated().assertValues(MoveEvent(1, 2, 1))
     }
+
+    @Test fun eventsAreBatchedUntilMainThreadLoop() {
+        val testObserver = RxPowerAdapter.events(adapter).test()
+        adapter.append(1)
+        adapter.move(0, 1, 1)
+        testObserver.assertNoValues()
+        mainThreadScheduler.triggerActions()
+        testObserver.assertNotTerminated()
+                .assertValues(EventBatch(false, listOf(InsertEvent(0, 1), MoveEvent(0, 1, 1))))
+    }
+
+    @Test fun eventsAreCoalesced() {
+        val testObserver = RxPowerAdapter.events(adapter).test()
+        adapter.append(2)
+        adapter.append(3)
+        adapter.remove(1, 1)
+        adapter.remove(0, 1)
+        adapter.change(0, 1)
+        adapter.change(1, 2)
+        mainThreadScheduler.triggerActions()
+        testObserver.assertValues(EventBatch(false, listOf(
+                InsertEvent(0, 5),
+                RemoveEvent(0, 2),
+                ChangeEvent(0, 3, null)
+        )))
+    }
+
+    @Test fun changesWithEqualPayloadsAreCoalesced() {
+        val testObserver = RxPowerAdapter.events(adapter).test()
+        adapter.append(3)
+        adapter.change(0, 1, String(charArrayOf('a')))
+        adapter.change(1, 1, String(charArrayOf('a')))
+        mainThreadScheduler.triggerActions()
+        testObserver.assertValues(EventBatch(false, listOf(
+                InsertEvent(0, 3),
+                ChangeEvent(0, 2, "a")
+        )))
+    }
+
+    @Test fun eventsDataSetChangedSupersedesPreviousEvents() {
+        val testObserver = RxPowerAdapter.events(adapter).test()
+        adapter.append(1)
+        adapter.notificationType = NotificationType.COARSE
+        adapter.append(1)
+        adapter.notificationType = NotificationType.FINE
+        adapter.append(1)
+        mainThreadScheduler.triggerActions()
+        testObserver.assertValues(EventBatch(true, listOf(InsertEvent(2, 1))))
+    }
+
+    @Test fun eventsNotEmittedAfterDispose() {
+        val testObserver = RxPowerAdapter.events(adapter).test()
+        adapter.append(1)
+        testObserver.dispose()
+        mainThreadScheduler.triggerActions()
+        testObserver.assertNoValues()
+    }
 }
@@ -8,15 +8,12 @@ import com.nextfaze.poweradapters.Container;
 import com.nextfaze.poweradapters.DataObserver;
 import com.nextfaze.poweradapters.Holder;
 import com.nextfaze.poweradapters.PowerAdapter;
-import com.nextfaze.poweradapters.SimpleDataObserver;
 import com.nextfaze.poweradapters.internal.WeakMap;
 
-import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 
 import androidx.annotation.CallSuper;
@@ -33,16 +30,69 @@ public class ConverterPagerAdapter extends PagerAdapterFixed {
     private final WeakMap<ViewGroup, ViewPagerContainer> mParentViewToContainer = new WeakMap<>();
 
     @NonNull
-    private final Recycler mRecycler = new Recycler();
+    private final PagerViewPool mViewPool;
 
     @NonNull
-    private final DataObserver mDataObserver = new SimpleDataObserver() {
+    private final DataObserver mDataObserver = new DataObserver() {
         @Override
         public void onChanged() {
             notifyDataSetChanged();
         }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+            rebindViews(positionStart, itemCount, payload);
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            for (int i = 0; i < mActiveHolders.size(); i++) {
+                HolderImpl holder = mActiveHolders.get(i);
+                if (holder.position >= positionStart) {
+                    holder.position += itemCount;
+                }
+            }
+            notifyPositionsChanged();
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            for (int i = 0; i < mActiveHolders.size(); i++) {
+                HolderImpl holder = mActiveHolders.get(i);
+                if (holder.position >= positionStart + itemCount) {
+                    holder.position -= itemCount;
+                } else if (holder.position >= positionStart) {
+                    holder.position = POSITION_NONE;
+                }
+            }
+            notifyPositionsChanged();
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            for (int i = 0; i < mActiveHolders.size(); i++) {
+                HolderImpl holder = mActiveHolders.get(i);
+                int position = holder.position;
+                if (position >= fromPosition && position < fromPosition + itemCount) {
+                    holder.position += toPosition - fromPosition;
+                } else if (fromPosition < toPosition && position >= fromPosition + itemCount &&
+                        position < toPosition + itemCount) {
+                    holder.position -= itemCount;
+                } else if (toPosition < fromPosition && position >= toPosition && position < fromPosition) {
+                    holder.position += itemCount;
+                }
+            }
+            notifyPositionsChanged();
+        }
     };
 
+    /** Holders of the views currently instantiated as pages. */
+    @NonNull
+    private final ArrayList<HolderImpl> mActiveHolders = new ArrayList<>();
+
+    /** Whether {@link #getItemPosition(Object)} should report the tracked positions of pages, rather than none. */
+    private boolean mReportPositions;
+
     @NonNull
     private final WeakMap<View, Object> mViewTypes = new WeakMap<>();
 
@@ -57,7 +107,21 @@ public class ConverterPagerAdapter extends PagerAdapterFixed {
     public final PowerAdapter mAdapter;
 
     public ConverterPagerAdapter(@NonNull PowerAdapter adapter) {
+        this(adapter, new PagerViewPool());
+    }
+
+    /**
+     * Creates an adapter that recycles destroyed page views using the specified pool, which may be shared with other
+     * adapters.
+     */
+    public ConverterPagerAdapter(@NonNull PowerAdapter adapter, @NonNull PagerViewPool viewPool) {
         mAdapter = checkNotNull(adapter, "adapter");
+        mViewPool = checkNotNull(viewPool, "viewPool");
+    }
+
+    @NonNull
+    public final PagerViewPool getViewPool() {
+        return mViewPool;
     }
 
     @CallSuper
@@ -85,6 +149,12 @@ public class ConverterPagerAdapter extends PagerAdapterFixed {
 
     @Override
     public int getItemPosition(Object object) {
+        if (mReportPositions) {
+            HolderImpl holder = mHolders.get((View) object);
+            if (holder != null) {
+                return holder.position;
+            }
+        }
         // Required for notifyDataSetChanged() to have any effect.
         return POSITION_NONE;
     }
@@ -97,18 +167,20 @@ public class ConverterPagerAdapter extends PagerAdapterFixed {
             mParentViewToContainer.put(parent, container);
         }
         Object viewType = mAdapter.getItemViewType(position);
-        View v = mRecycler.get(viewType);
+        View v = mViewPool.get(viewType);
         if (v == null) {
             v = mAdapter.newView(parent, viewType);
         }
         HolderImpl holder = mHolders.get(v);
         if (holder == null) {
-            holder = new HolderImpl();
+            holder = new HolderImpl(v);
             mHolders.put(v, holder);
         }
         holder.position = position;
+        holder.container = container;
         mAdapter.bindView(container, v, holder, Collections.emptyList());
         mViewTypes.put(v, viewType);
+        mActiveHolders.add(holder);
         parent.addView(v);
         return v;
     }
@@ -118,7 +190,53 @@ public class ConverterPagerAdapter extends PagerAdapterFixed {
         View v = (View) object;
         Object itemViewType = mViewTypes.get(v);
         container.removeView(v);
-        mRecycler.put(itemViewType, v);
+        HolderImpl holder = mHolders.get(v);
+        if (holder != null) {
+            holder.container = null;
+            mActiveHolders.remove(holder);
+        }
+        mViewPool.put(itemViewType, v);
+    }
+
+    /**
+     * Rebinds the active views in the specified range with the payload, without recreating the pages. If the view type
+     * of any of those items changed, all pages are recreated instead.
+     */
+    void rebindViews(int positionStart, int itemCount, @Nullable Object payload) {
+        for (int i = 0; i < mActiveHolders.size(); i++) {
+            HolderImpl holder = mActiveHolders.get(i);
+            if (isRebindable(holder, positionStart, itemCount) &&
+                    !mAdapter.getItemViewType(holder.position).equals(mViewTypes.get(holder.view))) {
+                notifyDataSetChanged();
+                return;
+            }
+        }
+        List<Object> payloads = payload != null ? Collections.singletonList(payload) : Collections.emptyList();
+        for (int i = 0; i < mActiveHolders.size(); i++) {
+            HolderImpl holder = mActiveHolders.get(i);
+            if (isRebindable(holder, positionStart, itemCount)) {
+                //noinspection ConstantConditions
+                mAdapter.bindView(holder.container, holder.view, holder, payloads);
+            }
+        }
+    }
+
+    private static boolean isRebindable(@NonNull HolderImpl holder, int positionStart, int itemCount) {
+        return holder.container != null &&
+                holder.position >= positionStart && holder.position < positionStart + itemCount;
+    }
+
+    /**
+     * Notifies the pager of structural changes already applied to the positions of the active pages, so pages are only
+     * destroyed if their items were removed, rather than all pages being recreated.
+     */
+    void notifyPositionsChanged() {
+        mReportPositions = true;
+        try {
+            notifyDataSetChanged();
+        } finally {
+            mReportPositions = false;
+        }
     }
 
     @Override
@@ -128,9 +246,18 @@ public class ConverterPagerAdapter extends PagerAdapterFixed {
 
     private static final class HolderImpl implements Holder {
 
+        @NonNull
+        final View view;
+
+        /** The position of the page, or {@link #POSITION_NONE} if its item has been removed. */
         int position;
 
-        HolderImpl() {
+        /** Non-null while the view is instantiated as a page. */
+        @Nullable
+        Container container;
+
+        HolderImpl(@NonNull View view) {
+            this.view = view;
         }
 
         @Override
@@ -139,33 +266,6 @@ public class ConverterPagerAdapter extends PagerAdapterFixed {
         }
     }
 
-    private static final class Recycler {
-
-        @NonNull
-        private final Map<Object, Deque<View>> mViews = new HashMap<>();
-
-        Recycler() {
-        }
-
-        void put(@NonNull Object itemViewType, @NonNull View v) {
-            Deque<View> views = mViews.get(itemViewType);
-            if (views == null) {
-                views = new ArrayDeque<>();
-                mViews.put(itemViewType, views);
-            }
-            views.offer(v);
-        }
-
-        @Nullable
-        View get(@NonNull Object itemViewType) {
-            Deque<View> views = mViews.get(itemViewType);
-            if (views == null) {
-                return null;
-            }
-            return views.poll();
-        }
-    }
-
     private final class ViewPagerContainer extends Container {
 
         @NonNull
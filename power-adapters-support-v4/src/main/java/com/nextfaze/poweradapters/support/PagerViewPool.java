@@ -0,0 +1,167 @@
+package com.nextfaze.poweradapters.support;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.view.View;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+
+/**
+ * A bounded pool of page views destroyed by a {@link ConverterPagerAdapter}, retained so they can be rebound to other
+ * pages of the same view type. The number of views retained for each view type is capped, and when the cap is exceeded
+ * the least recently pooled view of that type is discarded.
+ * <p>
+ * A single pool may be shared by multiple adapters, provided they produce the same view types and their views are
+ * interchangeable, such as adapters used by pagers within the same screen.
+ * <p>
+ * The pool implements {@link ComponentCallbacks2}, and can be registered with {@link
+ * android.content.Context#registerComponentCallbacks} to discard views when memory is low: the least recently pooled
+ * half of the views are discarded when the UI is hidden or the device is running low on memory, and all views are
+ * discarded when memory is critically low or the process is in danger of being killed.
+ */
+public final class PagerViewPool implements ComponentCallbacks2 {
+
+    private static final int DEFAULT_MAX_VIEWS = 3;
+
+    /** Pooled views, least recently pooled first. */
+    @NonNull
+    private final ArrayList<PooledView> mViews = new ArrayList<>();
+
+    @NonNull
+    private final Map<Object, Integer> mMaxViews = new HashMap<>();
+
+    private int mDefaultMaxViews = DEFAULT_MAX_VIEWS;
+
+    /** Returns the number of views that may be retained for view types without a specific cap. */
+    public int getDefaultMaxViews() {
+        return mDefaultMaxViews;
+    }
+
+    /**
+     * Sets the number of views that may be retained for view types without a specific cap. Defaults to 3, which
+     * accommodates the pages either side of the current page of a {@code ViewPager}.
+     */
+    public void setDefaultMaxViews(int maxViews) {
+        if (maxViews < 0) {
+            throw new IllegalArgumentException("maxViews < 0");
+        }
+        mDefaultMaxViews = maxViews;
+        trimAll();
+    }
+
+    /** Sets the number of views that may be retained for the specified view type. */
+    public void setMaxViews(@NonNull Object viewType, int maxViews) {
+        checkNotNull(viewType, "viewType");
+        if (maxViews < 0) {
+            throw new IllegalArgumentException("maxViews < 0");
+        }
+        mMaxViews.put(viewType, maxViews);
+        trim(viewType);
+    }
+
+    /** Returns the total number of views currently retained. */
+    public int size() {
+        return mViews.size();
+    }
+
+    /** Discards all retained views. */
+    public void clear() {
+        mViews.clear();
+    }
+
+    /** Returns the most recently pooled view of the specified type, removing it from the pool. */
+    @Nullable
+    View get(@NonNull Object viewType) {
+        for (int i = mViews.size() - 1; i >= 0; i--) {
+            if (mViews.get(i).mViewType.equals(viewType)) {
+                return mViews.remove(i).mView;
+            }
+        }
+        return null;
+    }
+
+    void put(@NonNull Object viewType, @NonNull View view) {
+        mViews.add(new PooledView(viewType, view));
+        trim(viewType);
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        // The running levels are lower than the background ones, despite memory being under similar pressure.
+        if (level >= TRIM_MEMORY_MODERATE || level == TRIM_MEMORY_RUNNING_CRITICAL) {
+            clear();
+        } else if (level >= TRIM_MEMORY_UI_HIDDEN || level == TRIM_MEMORY_RUNNING_LOW) {
+            mViews.subList(0, mViews.size() / 2).clear();
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        clear();
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+    }
+
+    private int getMaxViews(@NonNull Object viewType) {
+        Integer maxViews = mMaxViews.get(viewType);
+        return maxViews != null ? maxViews : mDefaultMaxViews;
+    }
+
+    /** Discards the least recently pooled views of the specified type in excess of its cap. */
+    private void trim(@NonNull Object viewType) {
+        int excess = count(viewType) - getMaxViews(viewType);
+        for (int i = 0; i < mViews.size() && excess > 0; ) {
+            if (mViews.get(i).mViewType.equals(viewType)) {
+                mViews.remove(i);
+                excess--;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void trimAll() {
+        Set<Object> viewTypes = new HashSet<>();
+        for (int i = 0; i < mViews.size(); i++) {
+            viewTypes.add(mViews.get(i).mViewType);
+        }
+        for (Object viewType : viewTypes) {
+            trim(viewType);
+        }
+    }
+
+    private int count(@NonNull Object viewType) {
+        int count = 0;
+        for (int i = 0; i < mViews.size(); i++) {
+            if (mViews.get(i).mViewType.equals(viewType)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static final class PooledView {
+
+        @NonNull
+        final Object mViewType;
+
+        @NonNull
+        final View mView;
+
+        PooledView(@NonNull Object viewType, @NonNull View view) {
+            mViewType = viewType;
+            mView = view;
+        }
+    }
+}
@@ -16,4 +16,11 @@ public final class SupportPowerAdapters {
     public static PagerAdapter toPagerAdapter(@NonNull PowerAdapter powerAdapter) {
         return new ConverterPagerAdapter(powerAdapter);
     }
+
+    /** Converts the adapter, recycling page views using the specified pool, which may be shared between adapters. */
+    @CheckResult
+    @NonNull
+    public static PagerAdapter toPagerAdapter(@NonNull PowerAdapter powerAdapter, @NonNull PagerViewPool viewPool) {
+        return new ConverterPagerAdapter(powerAdapter, viewPool);
+    }
 }
@@ -0,0 +1,152 @@
+package com.nextfaze.poweradapters.support;
+
+import android.database.DataSetObserver;
+import android.view.View;
+
+import com.nextfaze.poweradapters.Container;
+import com.nextfaze.poweradapters.Holder;
+import com.nextfaze.poweradapters.test.FakeAdapter;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatcher;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.viewpager.widget.ViewPager;
+
+import static androidx.viewpager.widget.PagerAdapter.POSITION_NONE;
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public final class ConverterPagerAdapterTest {
+
+    private FakeAdapter mFakeAdapter;
+    private ConverterPagerAdapter mPagerAdapter;
+    private ViewPager mViewPager;
+
+    /** Pages currently instantiated, in the order they were instantiated. */
+    private final List<Object> mPages = new ArrayList<>();
+
+    /** The positions reported for each page by the most recent change notification. */
+    private final List<Integer> mNotifiedPositions = new ArrayList<>();
+
+    @Before
+    public void setUp() throws Exception {
+        mFakeAdapter = spy(new FakeAdapter(10));
+        mPagerAdapter = new ConverterPagerAdapter(mFakeAdapter);
+        mPagerAdapter.registerDataSetObserver(new DataSetObserver() {
+            @Override
+            public void onChanged() {
+                mNotifiedPositions.clear();
+                for (Object page : mPages) {
+                    mNotifiedPositions.add(mPagerAdapter.getItemPosition(page));
+                }
+            }
+        });
+        mViewPager = new ViewPager(RuntimeEnvironment.application);
+        for (int position = 3; position <= 5; position++) {
+            mPages.add(mPagerAdapter.instantiateItem(mViewPager, position));
+        }
+        clearInvocations(mFakeAdapter);
+    }
+
+    @Test
+    public void insertBeforePagesShiftsThem() {
+        mFakeAdapter.insert(0, 2);
+        assertThat(mNotifiedPositions).containsExactly(5, 6, 7).inOrder();
+    }
+
+    @Test
+    public void insertAmongPagesShiftsLaterOnes() {
+        mFakeAdapter.insert(4, 1);
+        assertThat(mNotifiedPositions).containsExactly(3, 5, 6).inOrder();
+    }
+
+    @Test
+    public void insertAfterPagesLeavesThem() {
+        mFakeAdapter.insert(6, 3);
+        assertThat(mNotifiedPositions).containsExactly(3, 4, 5).inOrder();
+    }
+
+    @Test
+    public void removeBeforePagesShiftsThem() {
+        mFakeAdapter.remove(0, 2);
+        assertThat(mNotifiedPositions).containsExactly(1, 2, 3).inOrder();
+    }
+
+    @Test
+    public void removedPageReportsPositionNone() {
+        mFakeAdapter.remove(4, 1);
+        assertThat(mNotifiedPositions).containsExactly(3, POSITION_NONE, 4).inOrder();
+    }
+
+    @Test
+    public void moveBackwardRepositionsPages() {
+        mFakeAdapter.move(4, 0, 1);
+        assertThat(mNotifiedPositions).containsExactly(4, 0, 5).inOrder();
+    }
+
+    @Test
+    public void moveForwardRepositionsPages() {
+        mFakeAdapter.move(3, 5, 1);
+        assertThat(mNotifiedPositions).containsExactly(5, 3, 4).inOrder();
+    }
+
+    @Test
+    public void moveOfRangeRepositionsPages() {
+        mFakeAdapter.move(2, 6, 2);
+        assertThat(mNotifiedPositions).containsExactly(7, 2, 3).inOrder();
+    }
+
+    @Test
+    public void positionNoneReportedOutsideStructuralChanges() {
+        assertThat(mPagerAdapter.getItemPosition(mPages.get(0))).isEqualTo(POSITION_NONE);
+        mPagerAdapter.notifyDataSetChanged();
+        assertThat(mNotifiedPositions).containsExactly(POSITION_NONE, POSITION_NONE, POSITION_NONE);
+    }
+
+    @Test
+    public void changeRebindsAffectedPagesWithPayload() {
+        mFakeAdapter.change(4, 3, "a");
+        verify(mFakeAdapter).bindView(any(Container.class), eq((View) mPages.get(1)), argThat(holderWithPosition(4)),
+                eq(singletonList((Object) "a")));
+        verify(mFakeAdapter).bindView(any(Container.class), eq((View) mPages.get(2)), argThat(holderWithPosition(5)),
+                eq(singletonList((Object) "a")));
+        verify(mFakeAdapter, never()).bindView(any(Container.class), eq((View) mPages.get(0)), any(Holder.class),
+                anyList());
+    }
+
+    @Test
+    public void viewTypeChangeFallsBackToNotifyDataSetChanged() {
+        doReturn(new Object()).when(mFakeAdapter).getItemViewType(4);
+        mFakeAdapter.change(4, 1, null);
+        assertThat(mNotifiedPositions).containsExactly(POSITION_NONE, POSITION_NONE, POSITION_NONE);
+        verify(mFakeAdapter, never()).bindView(any(Container.class), any(View.class), any(Holder.class), anyList());
+    }
+
+    @NonNull
+    private static ArgumentMatcher<Holder> holderWithPosition(final int position) {
+        return new ArgumentMatcher<Holder>() {
+            @Override
+            public boolean matches(Holder holder) {
+                return holder.getPosition() == position;
+            }
+        };
+    }
+}
@@ -0,0 +1,184 @@
+package com.nextfaze.poweradapters.support;
+
+import android.view.View;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import androidx.annotation.NonNull;
+
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_BACKGROUND;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_COMPLETE;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_MODERATE;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE;
+import static android.content.ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN;
+import static com.google.common.truth.Truth.assertThat;
+
+@RunWith(RobolectricTestRunner.class)
+public final class PagerViewPoolTest {
+
+    private PagerViewPool mPool;
+
+    @Before
+    public void setUp() throws Exception {
+        mPool = new PagerViewPool();
+    }
+
+    @Test
+    public void getReturnsMostRecentlyPooledViewOfType() {
+        View a1 = put("a");
+        put("b");
+        View a2 = put("a");
+        assertThat(mPool.get("a")).isSameAs(a2);
+        assertThat(mPool.get("a")).isSameAs(a1);
+        assertThat(mPool.get("a")).isNull();
+        assertThat(mPool.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void defaultCapAppliedPerViewType() {
+        for (int i = 0; i < 5; i++) {
+            put("a");
+            put("b");
+        }
+        assertThat(mPool.size()).isEqualTo(6);
+    }
+
+    @Test
+    public void leastRecentlyPooledViewEvictedWhenCapExceeded() {
+        put("a");
+        View a2 = put("a");
+        View a3 = put("a");
+        View a4 = put("a");
+        assertThat(mPool.size()).isEqualTo(3);
+        assertThat(mPool.get("a")).isSameAs(a4);
+        assertThat(mPool.get("a")).isSameAs(a3);
+        assertThat(mPool.get("a")).isSameAs(a2);
+        assertThat(mPool.get("a")).isNull();
+    }
+
+    @Test
+    public void setMaxViewsTrimsExistingViewsOfThatType() {
+        put("a");
+        put("a");
+        View a3 = put("a");
+        put("b");
+        put("b");
+        mPool.setMaxViews("a", 1);
+        assertThat(mPool.size()).isEqualTo(3);
+        assertThat(mPool.get("a")).isSameAs(a3);
+        assertThat(mPool.get("a")).isNull();
+    }
+
+    @Test
+    public void setMaxViewsOverridesDefault() {
+        mPool.setMaxViews("a", 5);
+        for (int i = 0; i < 10; i++) {
+            put("a");
+            put("b");
+        }
+        assertThat(mPool.size()).isEqualTo(8);
+    }
+
+    @Test
+    public void setDefaultMaxViewsTrimsViewTypesWithoutSpecificCap() {
+        mPool.setMaxViews("a", 3);
+        for (int i = 0; i < 3; i++) {
+            put("a");
+            put("b");
+            put("c");
+        }
+        mPool.setDefaultMaxViews(1);
+        assertThat(mPool.size()).isEqualTo(5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeMaxViewsThrows() {
+        mPool.setMaxViews("a", -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeDefaultMaxViewsThrows() {
+        mPool.setDefaultMaxViews(-1);
+    }
+
+    @Test
+    public void trimMemoryRunningModerateRetainsViews() {
+        fill();
+        mPool.onTrimMemory(TRIM_MEMORY_RUNNING_MODERATE);
+        assertThat(mPool.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void trimMemoryRunningLowDiscardsLeastRecentlyPooledHalf() {
+        assertTrimDiscardsLeastRecentlyPooledHalf(TRIM_MEMORY_RUNNING_LOW);
+    }
+
+    @Test
+    public void trimMemoryRunningCriticalDiscardsAll() {
+        fill();
+        mPool.onTrimMemory(TRIM_MEMORY_RUNNING_CRITICAL);
+        assertThat(mPool.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void trimMemoryUiHiddenDiscardsLeastRecentlyPooledHalf() {
+        assertTrimDiscardsLeastRecentlyPooledHalf(TRIM_MEMORY_UI_HIDDEN);
+    }
+
+    @Test
+    public void trimMemoryBackgroundDiscardsLeastRecentlyPooledHalf() {
+        assertTrimDiscardsLeastRecentlyPooledHalf(TRIM_MEMORY_BACKGROUND);
+    }
+
+    @Test
+    public void trimMemoryModerateDiscardsAll() {
+        fill();
+        mPool.onTrimMemory(TRIM_MEMORY_MODERATE);
+        assertThat(mPool.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void trimMemoryCompleteDiscardsAll() {
+        fill();
+        mPool.onTrimMemory(TRIM_MEMORY_COMPLETE);
+        assertThat(mPool.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void lowMemoryDiscardsAll() {
+        fill();
+        mPool.onLowMemory();
+        assertThat(mPool.size()).isEqualTo(0);
+    }
+
+    private void assertTrimDiscardsLeastRecentlyPooledHalf(int level) {
+        put("a");
+        put("b");
+        View a2 = put("a");
+        View b2 = put("b");
+        mPool.onTrimMemory(level);
+        assertThat(mPool.size()).isEqualTo(2);
+        assertThat(mPool.get("a")).isSameAs(a2);
+        assertThat(mPool.get("b")).isSameAs(b2);
+    }
+
+    private void fill() {
+        put("a");
+        put("b");
+        put("a");
+        put("b");
+    }
+
+    @NonNull
+    private View put(@NonNull Object viewType) {
+        View view = new View(RuntimeEnvironment.application);
+        mPool.put(viewType, view);
+        return view;
+    }
+}
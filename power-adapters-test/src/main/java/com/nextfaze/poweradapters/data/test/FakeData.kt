@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters.data.test
 
+import com.nextfaze.poweradapters.ChangePayloadFunction
 import com.nextfaze.poweradapters.data.Data
 import com.nextfaze.poweradapters.internal.NotificationType
 import com.nextfaze.poweradapters.internal.NotifyingArrayList
@@ -30,6 +31,12 @@ class FakeData<T> : Data<T>() {
             data.notificationType = notificationType
         }
 
+    var changePayloadFunction: ChangePayloadFunction<in T>?
+        get() = data.changePayloadFunction
+        set(changePayloadFunction) {
+            data.changePayloadFunction = changePayloadFunction
+        }
+
     override fun size(): Int = data.size
 
     override fun get(position: Int, flags: Int): T = data[position]
@@ -8,7 +8,7 @@ final class AdapterCondition extends Condition {
     private final DataObserver mDataObserver = new SimpleDataObserver() {
         @Override
         public void onChanged() {
-            notifyChanged();
+            updateValue();
         }
     };
 
@@ -18,6 +18,9 @@ final class AdapterCondition extends Condition {
     @NonNull
     private final Predicate<PowerAdapter> mPredicate;
 
+    /** The last evaluated result, only valid while observed. */
+    private boolean mValue;
+
     AdapterCondition(@NonNull PowerAdapter adapter, @NonNull Predicate<PowerAdapter> predicate) {
         mPredicate = predicate;
         mAdapter = adapter;
@@ -32,6 +35,7 @@ final class AdapterCondition extends Condition {
     protected void onFirstObserverRegistered() {
         super.onFirstObserverRegistered();
         mAdapter.registerDataObserver(mDataObserver);
+        mValue = eval();
     }
 
     @Override
@@ -39,4 +43,13 @@ final class AdapterCondition extends Condition {
         super.onLastObserverUnregistered();
         mAdapter.unregisterDataObserver(mDataObserver);
     }
+
+    /** Notifies only if the result has actually changed, rather than for every adapter change. */
+    void updateValue() {
+        boolean value = eval();
+        if (value != mValue) {
+            mValue = value;
+            notifyChanged();
+        }
+    }
 }
@@ -0,0 +1,194 @@
+package com.nextfaze.poweradapters;
+
+import java.util.ArrayDeque;
+
+import androidx.annotation.CallSuper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+
+/**
+ * A {@link TreeAdapter.ChildAdapterSupplier} that loads child adapters asynchronously. Each expanded item immediately
+ * receives a lightweight child adapter presenting the placeholder rows, which is replaced by the loaded adapter once it
+ * becomes available. At most {@code maxConcurrentLoads} loads are in flight at once; the rest are queued in the order
+ * their items were expanded. Loads only begin while the child is observed, and are cancelled if the item is collapsed
+ * or removed before the load completes.
+ * <p>
+ * All methods of this class and its nested interfaces must be called on the UI thread.
+ */
+public final class AsyncChildAdapterSupplier implements TreeAdapter.ChildAdapterSupplier {
+
+    @NonNull
+    private final Loader mLoader;
+
+    @NonNull
+    private final PowerAdapter mPlaceholder;
+
+    private final int mMaxConcurrentLoads;
+
+    @NonNull
+    private final ArrayDeque<AsyncChildAdapter> mQueue = new ArrayDeque<>();
+
+    private int mActiveLoadCount;
+
+    /** Prevents recursion when tasks deliver their results synchronously. */
+    private boolean mStartingLoads;
+
+    /**
+     * @param loader Creates the load tasks.
+     * @param placeholder Presented as the children of an item while its load is pending. May be shared, so it should not
+     * hold per-item state. Pass {@link PowerAdapter#EMPTY} for no placeholder rows.
+     * @param maxConcurrentLoads The maximum number of loads that may be in flight at once.
+     */
+    public AsyncChildAdapterSupplier(@NonNull Loader loader,
+                                     @NonNull PowerAdapter placeholder,
+                                     int maxConcurrentLoads) {
+        mLoader = checkNotNull(loader, "loader");
+        mPlaceholder = checkNotNull(placeholder, "placeholder");
+        if (maxConcurrentLoads <= 0) {
+            throw new IllegalArgumentException("maxConcurrentLoads <= 0");
+        }
+        mMaxConcurrentLoads = maxConcurrentLoads;
+    }
+
+    @NonNull
+    @Override
+    public PowerAdapter get(int position) {
+        return new AsyncChildAdapter(mLoader.newTask(position));
+    }
+
+    /** Returns the number of loads currently in flight. */
+    public int getActiveLoadCount() {
+        return mActiveLoadCount;
+    }
+
+    /** Returns the number of loads waiting for a free slot. */
+    public int getQueuedLoadCount() {
+        return mQueue.size();
+    }
+
+    private void enqueue(@NonNull AsyncChildAdapter adapter) {
+        mQueue.add(adapter);
+        startQueuedLoads();
+    }
+
+    private void dequeue(@NonNull AsyncChildAdapter adapter) {
+        mQueue.remove(adapter);
+    }
+
+    private void onLoadFinished() {
+        mActiveLoadCount--;
+        startQueuedLoads();
+    }
+
+    private void startQueuedLoads() {
+        if (mStartingLoads) {
+            return;
+        }
+        mStartingLoads = true;
+        try {
+            while (mActiveLoadCount < mMaxConcurrentLoads && !mQueue.isEmpty()) {
+                mActiveLoadCount++;
+                mQueue.poll().start();
+            }
+        } finally {
+            mStartingLoads = false;
+        }
+    }
+
+    /** Presents the placeholder until its task delivers the real child adapter. */
+    private final class AsyncChildAdapter extends PowerAdapterWrapper {
+
+        @NonNull
+        private final Task mTask;
+
+        /** Non-null only while the task is in flight. */
+        @Nullable
+        private Callback mCallback;
+
+        private boolean mQueued;
+
+        private boolean mLoaded;
+
+        AsyncChildAdapter(@NonNull Task task) {
+            super(new DelegateAdapter(mPlaceholder));
+            mTask = checkNotNull(task, "task");
+        }
+
+        void start() {
+            mQueued = false;
+            final Callback callback = new Callback() {
+                @Override
+                public void onLoaded(@NonNull PowerAdapter adapter) {
+                    checkNotNull(adapter, "adapter");
+                    if (mCallback == this) {
+                        mCallback = null;
+                        mLoaded = true;
+                        ((DelegateAdapter) getAdapter()).setDelegate(adapter);
+                        onLoadFinished();
+                    }
+                }
+            };
+            mCallback = callback;
+            mTask.start(callback);
+        }
+
+        @CallSuper
+        @Override
+        protected void onFirstObserverRegistered() {
+            super.onFirstObserverRegistered();
+            if (!mLoaded && !mQueued && mCallback == null) {
+                mQueued = true;
+                enqueue(this);
+            }
+        }
+
+        @CallSuper
+        @Override
+        protected void onLastObserverUnregistered() {
+            super.onLastObserverUnregistered();
+            if (mQueued) {
+                mQueued = false;
+                dequeue(this);
+            } else if (mCallback != null) {
+                mCallback = null;
+                mTask.cancel();
+                onLoadFinished();
+            }
+        }
+    }
+
+    /** Creates load tasks for child adapters. */
+    public interface Loader {
+        /**
+         * Creates a task that will load the child adapter of the root item at the specified position. This is called
+         * synchronously when an item is expanded, so it must be cheap: capture whatever is needed from the root item,
+         * since the position may have changed by the time the task is started, and defer everything else to
+         * {@link Task#start(Callback)}.
+         */
+        @NonNull
+        Task newTask(int position);
+    }
+
+    /** Loads a single child adapter. */
+    public interface Task {
+        /**
+         * Begins loading. The slow work must be performed off the UI thread, and the resulting adapter delivered to
+         * {@code callback} on the UI thread.
+         */
+        @UiThread
+        void start(@NonNull Callback callback);
+
+        /** Cancels the load. Any result subsequently delivered to the callback is ignored. */
+        @UiThread
+        void cancel();
+    }
+
+    /** Receives the result of a {@link Task}. */
+    public interface Callback {
+        @UiThread
+        void onLoaded(@NonNull PowerAdapter adapter);
+    }
+}
@@ -0,0 +1,20 @@
+package com.nextfaze.poweradapters;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Describes how an item changed, so that its view can be partially rebound. The payload is passed unchanged through
+ * wrapping adapters to {@link PowerAdapter#bindView(Container, android.view.View, Holder, List)}, and on to {@code
+ * Binder.bindView}, which can then update only the affected parts of the view.
+ */
+public interface ChangePayloadFunction<T> {
+    /**
+     * Returns a payload describing the difference between the old and new items at the same position, or {@code null}
+     * if the view should be fully rebound.
+     */
+    @Nullable
+    Object getChangePayload(@NonNull T oldItem, @NonNull T newItem);
+}
@@ -14,7 +14,7 @@ abstract class CompoundCondition extends Condition {
     private final Observer mObserver = new Observer() {
         @Override
         public void onChanged() {
-            notifyChanged();
+            updateValue();
         }
     };
 
@@ -23,6 +23,9 @@ abstract class CompoundCondition extends Condition {
 
     private boolean mObserving;
 
+    /** The last evaluated result, only valid while observing dependencies. */
+    private boolean mValue;
+
     CompoundCondition(@NonNull Set<Condition> dependencies) {
         mDependencies = new HashSet<>(dependencies);
     }
@@ -55,6 +58,15 @@ abstract class CompoundCondition extends Condition {
         updateObserver();
     }
 
+    /** Notifies only if the result has actually changed, since a dependency change often doesn't affect it. */
+    void updateValue() {
+        boolean value = eval();
+        if (value != mValue) {
+            mValue = value;
+            notifyChanged();
+        }
+    }
+
     private void updateObserver() {
         boolean observe = getObserverCount() > 0;
         if (observe != mObserving) {
@@ -63,6 +75,7 @@ abstract class CompoundCondition extends Condition {
                 for (Condition condition : mDependencies) {
                     condition.registerObserver(mObserver);
                 }
+                mValue = eval();
             } else {
                 for (Condition condition : mDependencies) {
                     condition.unregisterObserver(mObserver);
@@ -60,17 +60,40 @@ final class ConcatAdapter extends PowerAdapter {
 
     private final boolean mStableIds;
 
+    /**
+     * Number of low bits of each item ID reserved for the index of the child adapter it came from, or 0 if IDs are
+     * passed through as-is.
+     */
+    private final int mIdIndexBits;
+
     int mItemCount;
 
     ConcatAdapter(@NonNull List<? extends PowerAdapter> adapters) {
+        this(adapters, false);
+    }
+
+    /**
+     * @param namespaceIds If {@code true}, the IDs of each child adapter are namespaced by its index so they can't
+     * collide, and this adapter has stable IDs if all of its children do.
+     */
+    ConcatAdapter(@NonNull List<? extends PowerAdapter> adapters, boolean namespaceIds) {
         mEntries = new Entry[adapters.size()];
         for (int i = 0; i < mEntries.length; i++) {
             mEntries[i] = new Entry(adapters.get(i));
         }
-        // If only a single entry, it's safe to forward it's value directly.
-        // Otherwise, must return false because IDs returned by multiple
-        // child adapters may collide, falsely indicating equality.
-        mStableIds = mEntries.length == 1 && mEntries[0].mAdapter.hasStableIds();
+        if (mEntries.length == 1) {
+            // If only a single entry, it's safe to forward it's value directly.
+            mStableIds = mEntries[0].mAdapter.hasStableIds();
+            mIdIndexBits = 0;
+        } else if (namespaceIds) {
+            mStableIds = allStableIds(mEntries);
+            mIdIndexBits = Integer.SIZE - Integer.numberOfLeadingZeros(mEntries.length - 1);
+        } else {
+            // Otherwise, must return false because IDs returned by multiple
+            // child adapters may collide, falsely indicating equality.
+            mStableIds = false;
+            mIdIndexBits = 0;
+        }
     }
 
     @Override
@@ -85,7 +108,16 @@ final class ConcatAdapter extends PowerAdapter {
 
     @Override
     public long getItemId(int position) {
-        return outerToAdapter(position).getItemId(position);
+        if (mIdIndexBits == 0) {
+            return outerToAdapter(position).getItemId(position);
+        }
+        int index = outerToEntryIndex(position);
+        long itemId = mEntries[index].mAdapter.getItemId(position);
+        if (itemId == NO_ID) {
+            return NO_ID;
+        }
+        // Shifting rather than masking keeps IDs unique when concat adapters are nested.
+        return itemId << mIdIndexBits | index;
     }
 
     @Override
@@ -118,6 +150,11 @@ final class ConcatAdapter extends PowerAdapter {
         outerToAdapter(holder.getPosition()).bindView(container, view, holder, payloads);
     }
 
+    @Override
+    public void prefetch(int position) {
+        outerToAdapter(position).prefetch(position);
+    }
+
     @CallSuper
     @Override
     protected void onFirstObserverRegistered() {
@@ -149,11 +186,24 @@ final class ConcatAdapter extends PowerAdapter {
 
     @NonNull
     private PowerAdapter outerToAdapter(int outerPosition) {
-        Entry entry = mEntries[mRangeTable.findPosition(outerPosition)];
-        if (entry.getItemCount() <= 0) {
+        return mEntries[outerToEntryIndex(outerPosition)].mAdapter;
+    }
+
+    private int outerToEntryIndex(int outerPosition) {
+        int index = mRangeTable.findPosition(outerPosition);
+        if (mEntries[index].getItemCount() <= 0) {
             throw new AssertionError();
         }
-        return entry.mAdapter;
+        return index;
+    }
+
+    private static boolean allStableIds(@NonNull Entry[] entries) {
+        for (Entry entry : entries) {
+            if (!entry.mAdapter.hasStableIds()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private final class Entry {
@@ -13,6 +13,8 @@ final class ConcatAdapterBuilder {
     @NonNull
     private final ArrayList<PowerAdapter> mAdapters = new ArrayList<>();
 
+    private boolean mNamespaceIds;
+
     @NonNull
     ConcatAdapterBuilder add(@LayoutRes int layoutResource) {
         mAdapters.add(asAdapter(layoutResource));
@@ -45,6 +47,12 @@ final class ConcatAdapterBuilder {
         return this;
     }
 
+    @NonNull
+    ConcatAdapterBuilder namespaceIds(boolean namespaceIds) {
+        mNamespaceIds = namespaceIds;
+        return this;
+    }
+
     @NonNull
     PowerAdapter build() {
         if (mAdapters.isEmpty()) {
@@ -53,6 +61,6 @@ final class ConcatAdapterBuilder {
         if (mAdapters.size() == 1) {
             return mAdapters.get(0);
         }
-        return new ConcatAdapter(mAdapters);
+        return new ConcatAdapter(mAdapters, mNamespaceIds);
     }
 }
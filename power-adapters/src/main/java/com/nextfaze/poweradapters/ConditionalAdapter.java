@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters;
 
+import android.os.Handler;
 import android.view.View;
 import android.view.ViewGroup;
 
@@ -9,6 +10,8 @@ import androidx.annotation.CallSuper;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import static android.os.Looper.getMainLooper;
+
 final class ConditionalAdapter extends PowerAdapter {
 
     @NonNull
@@ -43,6 +46,20 @@ final class ConditionalAdapter extends PowerAdapter {
     private final Observer mObserver = new Observer() {
         @Override
         public void onChanged() {
+            if (mHandler == null) {
+                updateVisible();
+            } else {
+                // Restart the window, so the condition is only evaluated once it has settled.
+                mHandler.removeCallbacks(mUpdateVisibleRunnable);
+                mHandler.postDelayed(mUpdateVisibleRunnable, mDebounceMillis);
+            }
+        }
+    };
+
+    @NonNull
+    private final Runnable mUpdateVisibleRunnable = new Runnable() {
+        @Override
+        public void run() {
             updateVisible();
         }
     };
@@ -53,13 +70,29 @@ final class ConditionalAdapter extends PowerAdapter {
     @NonNull
     private final Condition mCondition;
 
+    private final long mDebounceMillis;
+
+    /** Only present if visibility changes are debounced. */
+    @Nullable
+    private final Handler mHandler;
+
     private boolean mVisible;
 
     private boolean mObservingAdapter;
 
     ConditionalAdapter(@NonNull PowerAdapter adapter, @NonNull Condition condition) {
+        this(adapter, condition, 0);
+    }
+
+    /**
+     * @param debounceMillis If positive, condition changes are only applied once the condition has gone this long
+     * without changing again, so brief flips of the condition never show or hide the items.
+     */
+    ConditionalAdapter(@NonNull PowerAdapter adapter, @NonNull Condition condition, long debounceMillis) {
         mAdapter = adapter;
         mCondition = condition;
+        mDebounceMillis = debounceMillis;
+        mHandler = debounceMillis > 0 ? new Handler(getMainLooper()) : null;
     }
 
     @Override
@@ -112,6 +145,11 @@ final class ConditionalAdapter extends PowerAdapter {
         adapter().bindView(container, v, holder, payloads);
     }
 
+    @Override
+    public void prefetch(int position) {
+        adapter().prefetch(position);
+    }
+
     @CallSuper
     @Override
     protected void onFirstObserverRegistered() {
@@ -143,6 +181,9 @@ final class ConditionalAdapter extends PowerAdapter {
     @Override
     protected void onLastObserverUnregistered() {
         super.onLastObserverUnregistered();
+        if (mHandler != null) {
+            mHandler.removeCallbacks(mUpdateVisibleRunnable);
+        }
         if (mObservingAdapter) {
             mObservingAdapter = false;
             mAdapter.unregisterDataObserver(mDataObserver);
@@ -115,6 +115,11 @@ public final class DelegateAdapter extends PowerAdapter {
         delegateOrThrow().bindView(container, v, holder, payloads);
     }
 
+    @Override
+    public void prefetch(int position) {
+        delegateOrThrow().prefetch(position);
+    }
+
     @CallSuper
     @Override
     protected void onFirstObserverRegistered() {
@@ -16,6 +16,9 @@ public final class DividerAdapterBuilder implements PowerAdapter.Transformer {
     @NonNull
     private EmptyPolicy mEmptyPolicy = EmptyPolicy.DEFAULT;
 
+    @NonNull
+    private Mode mMode = Mode.DEFAULT;
+
     @Nullable
     private Item mLeadingItem;
 
@@ -35,6 +38,13 @@ public final class DividerAdapterBuilder implements PowerAdapter.Transformer {
         return this;
     }
 
+    /** Set how dividers are presented. Defaults to {@link Mode#DEFAULT}. */
+    @NonNull
+    public DividerAdapterBuilder mode(@NonNull Mode mode) {
+        mMode = checkNotNull(mode, "mode");
+        return this;
+    }
+
     /** Sets the divider that appears before the wrapped adapters items. */
     @NonNull
     public DividerAdapterBuilder leadingView(@NonNull ViewFactory viewFactory) {
@@ -106,6 +116,9 @@ public final class DividerAdapterBuilder implements PowerAdapter.Transformer {
         if (mLeadingItem == null && mTrailingItem == null && mInnerItem == null) {
             return adapter;
         }
+        if (mMode == Mode.INTERLEAVE) {
+            return new InterleavedDividerAdapter(adapter, mEmptyPolicy, mLeadingItem, mTrailingItem, mInnerItem);
+        }
         return new WrappingDividerAdapter(adapter, mEmptyPolicy, mLeadingItem, mTrailingItem, mInnerItem);
     }
 
@@ -115,6 +128,23 @@ public final class DividerAdapterBuilder implements PowerAdapter.Transformer {
         return build(adapter);
     }
 
+    public enum Mode {
+        /**
+         * Each item view is wrapped in a layout that also contains its dividers. The item count and positions of the
+         * wrapped adapter are unchanged, but every item view incurs an extra layout.
+         */
+        WRAP,
+        /**
+         * Dividers are presented as separate items, interleaved with the wrapped adapter's items. Item views are not
+         * wrapped, and divider views are recycled like any other item, but the dividers occupy positions of their own.
+         * If the wrapped adapter has stable IDs, its item IDs must fit within 62 bits, as they are shifted to make room
+         * for divider IDs.
+         */
+        INTERLEAVE;
+
+        public static final Mode DEFAULT = WRAP;
+    }
+
     public enum EmptyPolicy {
         /** The leading divider will be shown if the wrapped adapter is empty. */
         SHOW_LEADING {
@@ -0,0 +1,289 @@
+package com.nextfaze.poweradapters;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Implements dividers by presenting them as separate items interleaved with the wrapped adapter's items, so the item
+ * views themselves are never wrapped. Each inner divider is placed immediately before the item it follows, so the
+ * layout of the wrapped adapter's items and their dividers is:
+ * <pre>
+ * [leading] item0 [inner item1] [inner item2] ... [trailing]
+ * </pre>
+ * This keeps fine-grained notifications simple: inserting or removing items affects only whole "inner + item" units.
+ * <p>
+ * If the wrapped adapter has stable IDs, its item IDs are shifted left by 2 bits, leaving the low bits to distinguish
+ * the dividers. Each inner divider takes the ID of the item it precedes with the low bits set to 1, so it stays with
+ * that item as it moves, while the leading and trailing dividers have fixed IDs.
+ */
+final class InterleavedDividerAdapter extends PowerAdapterWrapper {
+
+    @NonNull
+    private final DividerAdapterBuilder.EmptyPolicy mEmptyPolicy;
+
+    private static final long LEADING_ID = 2;
+    private static final long TRAILING_ID = 3;
+
+    @Nullable
+    private final Item mLeadingItem;
+
+    @Nullable
+    private final Item mTrailingItem;
+
+    @Nullable
+    private final Item mInnerItem;
+
+    /** Number of outer items occupied by each wrapped item after the first, including its inner divider. */
+    private final int mStride;
+
+    /** Shadow inner item count, only valid while observers are registered. */
+    private int mInnerItemCount;
+
+    /** Shadow leading divider visibility, only valid while observers are registered. */
+    private boolean mLeadingVisible;
+
+    /** Shadow trailing divider visibility, only valid while observers are registered. */
+    private boolean mTrailingVisible;
+
+    InterleavedDividerAdapter(@NonNull PowerAdapter adapter,
+                              @NonNull DividerAdapterBuilder.EmptyPolicy emptyPolicy,
+                              @Nullable Item leadingItem,
+                              @Nullable Item trailingItem,
+                              @Nullable Item innerItem) {
+        super(adapter);
+        mEmptyPolicy = emptyPolicy;
+        mLeadingItem = leadingItem;
+        mTrailingItem = trailingItem;
+        mInnerItem = innerItem;
+        mStride = innerItem != null ? 2 : 1;
+    }
+
+    @Override
+    public int getItemCount() {
+        return leadingCount() + bodyCount(innerItemCount()) + trailingCount();
+    }
+
+    @NonNull
+    @Override
+    public Object getItemViewType(int position) {
+        Item divider = dividerAt(position);
+        if (divider != null) {
+            return divider.getViewType();
+        }
+        return super.getItemViewType(position);
+    }
+
+    @Override
+    public boolean isEnabled(int position) {
+        Item divider = dividerAt(position);
+        if (divider != null) {
+            return divider.isEnabled();
+        }
+        return super.isEnabled(position);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        Item divider = dividerAt(position);
+        if (!hasStableIds()) {
+            return divider != null ? NO_ID : super.getItemId(position);
+        }
+        if (divider == null) {
+            return super.getItemId(position) << 2;
+        }
+        if (position < leadingCount()) {
+            return LEADING_ID;
+        }
+        if (position >= leadingCount() + bodyCount(innerItemCount())) {
+            return TRAILING_ID;
+        }
+        return super.getItemId(position + 1) << 2 | 1;
+    }
+
+    @Override
+    public void prefetch(int position) {
+        if (dividerAt(position) == null) {
+            super.prefetch(position);
+        }
+    }
+
+    @NonNull
+    @Override
+    public View newView(@NonNull ViewGroup parent, @NonNull Object viewType) {
+        if (mLeadingItem != null && viewType == mLeadingItem.getViewType()) {
+            return mLeadingItem.create(parent);
+        }
+        if (mInnerItem != null && viewType == mInnerItem.getViewType()) {
+            return mInnerItem.create(parent);
+        }
+        if (mTrailingItem != null && viewType == mTrailingItem.getViewType()) {
+            return mTrailingItem.create(parent);
+        }
+        return super.newView(parent, viewType);
+    }
+
+    @Override
+    public void bindView(
+            @NonNull Container container,
+            @NonNull View view,
+            @NonNull Holder holder,
+            @NonNull List<Object> payloads
+    ) {
+        if (dividerAt(holder.getPosition()) == null) {
+            super.bindView(container, view, holder, payloads);
+        }
+    }
+
+    @Override
+    protected int outerToInner(int outerPosition) {
+        return (outerPosition - leadingCount()) / mStride;
+    }
+
+    @Override
+    protected int innerToOuter(int innerPosition) {
+        return leadingCount() + innerPosition * mStride;
+    }
+
+    @Override
+    protected void onFirstObserverRegistered() {
+        super.onFirstObserverRegistered();
+        updateShadowState();
+    }
+
+    @Override
+    protected void forwardChanged() {
+        updateShadowState();
+        notifyDataSetChanged();
+    }
+
+    @Override
+    protected void forwardItemRangeChanged(int innerPositionStart, int innerItemCount, @Nullable Object payload) {
+        if (mStride == 1) {
+            super.forwardItemRangeChanged(innerPositionStart, innerItemCount, payload);
+        } else {
+            // The inner dividers between the changed items are unchanged.
+            for (int i = innerPositionStart; i < innerPositionStart + innerItemCount; i++) {
+                notifyItemChanged(innerToOuter(i), payload);
+            }
+        }
+    }
+
+    @Override
+    protected void forwardItemRangeInserted(int innerPositionStart, int innerItemCount) {
+        int countBefore = mInnerItemCount;
+        int countAfter = countBefore + innerItemCount;
+        setLeadingVisible(isLeadingVisible(countAfter));
+        int outerItemCount = countBefore == 0 ? bodyCount(innerItemCount) : innerItemCount * mStride;
+        mInnerItemCount = countAfter;
+        notifyItemRangeInserted(unitStart(innerPositionStart), outerItemCount);
+        setTrailingVisible(isTrailingVisible(countAfter));
+    }
+
+    @Override
+    protected void forwardItemRangeRemoved(int innerPositionStart, int innerItemCount) {
+        int countBefore = mInnerItemCount;
+        int countAfter = countBefore - innerItemCount;
+        int outerItemCount = countAfter == 0 ? bodyCount(countBefore) : innerItemCount * mStride;
+        mInnerItemCount = countAfter;
+        notifyItemRangeRemoved(unitStart(innerPositionStart), outerItemCount);
+        setLeadingVisible(isLeadingVisible(countAfter));
+        setTrailingVisible(isTrailingVisible(countAfter));
+    }
+
+    @Override
+    protected void forwardItemRangeMoved(int innerFromPosition, int innerToPosition, int innerItemCount) {
+        if (mStride == 1) {
+            super.forwardItemRangeMoved(innerFromPosition, innerToPosition, innerItemCount);
+        } else if (innerFromPosition > 0 && innerToPosition > 0) {
+            // Neither range involves the first item, which is the only one without a preceding divider.
+            notifyItemRangeMoved(unitStart(innerFromPosition), unitStart(innerToPosition), innerItemCount * mStride);
+        } else if (innerItemCount < mInnerItemCount) {
+            forwardItemRangeRemoved(innerFromPosition, innerItemCount);
+            forwardItemRangeInserted(innerToPosition, innerItemCount);
+        }
+    }
+
+    /** Returns the divider at the specified position, or {@code null} if it's one of the wrapped adapter's items. */
+    @Nullable
+    private Item dividerAt(int position) {
+        int leadingCount = leadingCount();
+        if (position < leadingCount) {
+            return mLeadingItem;
+        }
+        int bodyPosition = position - leadingCount;
+        if (bodyPosition >= bodyCount(innerItemCount())) {
+            return mTrailingItem;
+        }
+        return bodyPosition % mStride != 0 ? mInnerItem : null;
+    }
+
+    /** Returns the outer position of the specified item's unit, which begins with its inner divider, if any. */
+    private int unitStart(int innerPosition) {
+        return innerPosition == 0 ? leadingCount() : innerToOuter(innerPosition) - (mStride - 1);
+    }
+
+    /** Returns the number of outer items occupied by the specified number of wrapped items and their inner dividers. */
+    private int bodyCount(int innerItemCount) {
+        return innerItemCount == 0 ? 0 : innerItemCount * mStride - (mStride - 1);
+    }
+
+    private int innerItemCount() {
+        return getObserverCount() > 0 ? mInnerItemCount : super.getItemCount();
+    }
+
+    private int leadingCount() {
+        if (getObserverCount() > 0) {
+            return mLeadingVisible ? 1 : 0;
+        }
+        return isLeadingVisible(super.getItemCount()) ? 1 : 0;
+    }
+
+    private int trailingCount() {
+        if (getObserverCount() > 0) {
+            return mTrailingVisible ? 1 : 0;
+        }
+        return isTrailingVisible(super.getItemCount()) ? 1 : 0;
+    }
+
+    private boolean isLeadingVisible(int innerItemCount) {
+        return mLeadingItem != null && mEmptyPolicy.shouldShowLeading(innerItemCount);
+    }
+
+    private boolean isTrailingVisible(int innerItemCount) {
+        return mTrailingItem != null && mEmptyPolicy.shouldShowTrailing(innerItemCount);
+    }
+
+    private void setLeadingVisible(boolean visible) {
+        if (visible != mLeadingVisible) {
+            mLeadingVisible = visible;
+            if (visible) {
+                notifyItemInserted(0);
+            } else {
+                notifyItemRemoved(0);
+            }
+        }
+    }
+
+    private void setTrailingVisible(boolean visible) {
+        if (visible != mTrailingVisible) {
+            mTrailingVisible = visible;
+            int position = leadingCount() + bodyCount(mInnerItemCount);
+            if (visible) {
+                notifyItemInserted(position);
+            } else {
+                notifyItemRemoved(position);
+            }
+        }
+    }
+
+    private void updateShadowState() {
+        mInnerItemCount = super.getItemCount();
+        mLeadingVisible = isLeadingVisible(mInnerItemCount);
+        mTrailingVisible = isTrailingVisible(mInnerItemCount);
+    }
+}
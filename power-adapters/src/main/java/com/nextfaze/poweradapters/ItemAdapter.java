@@ -57,6 +57,17 @@ final class ItemAdapter extends PowerAdapter {
         return viewType;
     }
 
+    /** The items are fixed, so their positions serve as stable IDs. */
+    @Override
+    public boolean hasStableIds() {
+        return true;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return position;
+    }
+
     @Override
     public boolean isEnabled(int position) {
         return mItems.get(position).isEnabled();
@@ -69,6 +69,14 @@ public final class LimitAdapter extends PowerAdapterWrapper {
         return super.getItemViewType(assertWithinRange(position));
     }
 
+    @Override
+    public void prefetch(int position) {
+        // Only a hint, so positions beyond the limit are ignored rather than rejected.
+        if (position >= 0 && position < getItemCount()) {
+            super.prefetch(position);
+        }
+    }
+
     @Override
     public boolean isEnabled(int position) {
         return super.isEnabled(assertWithinRange(position));
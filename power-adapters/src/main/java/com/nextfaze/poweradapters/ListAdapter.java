@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.ListIterator;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
 
@@ -28,6 +29,14 @@ public abstract class ListAdapter<E> extends PowerAdapter implements List<E> {
         mData.addAll(checkNotNull(list, "list"));
     }
 
+    /**
+     * Sets a function that computes the payload of change notifications when an element is replaced, allowing views to
+     * be partially rebound. Disabled by default.
+     */
+    public void setChangePayloadFunction(@Nullable ChangePayloadFunction<? super E> changePayloadFunction) {
+        mData.setChangePayloadFunction(changePayloadFunction);
+    }
+
     @Override
     public int getItemCount() {
         return mData.size();
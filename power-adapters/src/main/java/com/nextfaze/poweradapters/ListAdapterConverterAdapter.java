@@ -9,13 +9,17 @@ import android.widget.BaseAdapter;
 
 import com.nextfaze.poweradapters.internal.WeakMap;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import static android.os.Looper.getMainLooper;
 import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
@@ -28,8 +32,9 @@ final class ListAdapterConverterAdapter extends BaseAdapter {
     @NonNull
     final Handler mHandler = new Handler(getMainLooper());
 
+    /** Holders are retained strongly, so the positions of visible views are always known. */
     @NonNull
-    private final WeakMap<View, HolderImpl> mHolders = new WeakMap<>();
+    private final WeakHashMap<View, HolderImpl> mHolders = new WeakHashMap<>();
 
     @NonNull
     private final Map<Object, Integer> mViewTypeObjectToInt = new HashMap<>();
@@ -37,24 +42,50 @@ final class ListAdapterConverterAdapter extends BaseAdapter {
     @NonNull
     private final Set<DataSetObserver> mDataSetObservers = new HashSet<>();
 
+    /** Parents of the views returned by {@link #getView}, so their children can be rebound in place. */
+    @NonNull
+    private final Set<ViewGroup> mParentViews = Collections.newSetFromMap(new WeakHashMap<ViewGroup, Boolean>());
+
+    /** Item range changes yet to be applied to the visible views. */
+    @NonNull
+    private final ArrayList<Change> mPendingChanges = new ArrayList<>();
+
+    boolean mNotifyDataSetChangedPending;
+
     @NonNull
     final Runnable mNotifyDataSetChangedRunnable = new Runnable() {
         @Override
         public void run() {
+            mNotifyDataSetChangedPending = false;
             notifyDataSetChanged();
         }
     };
 
+    @NonNull
+    final Runnable mRebindRunnable = new Runnable() {
+        @Override
+        public void run() {
+            rebindChangedViews();
+        }
+    };
+
     @NonNull
     private final DataObserver mDataObserver = new SimpleDataObserver() {
         @Override
         public void onChanged() {
-            // AdapterView will act on this notification immediately, so we use the following risky technique to ensure
-            // possible subsequent notifications are fully executed before it does so.
-            // This ensures it doesn't try to access ranges of this PowerAdapter that may be in a dirty state, such as
-            // children of ConcatAdapter.
-            mHandler.removeCallbacks(mNotifyDataSetChangedRunnable);
-            mHandler.postAtFrontOfQueue(mNotifyDataSetChangedRunnable);
+            postNotifyDataSetChanged();
+        }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+            // A pending full change will rebind everything anyway.
+            if (!mNotifyDataSetChangedPending) {
+                // Changes don't shift positions, so the affected visible views can be rebound in place without
+                // AdapterView rebinding all of its children.
+                mPendingChanges.add(new Change(positionStart, itemCount, payload));
+                mHandler.removeCallbacks(mRebindRunnable);
+                mHandler.postAtFrontOfQueue(mRebindRunnable);
+            }
         }
     };
 
@@ -101,8 +132,9 @@ final class ListAdapterConverterAdapter extends BaseAdapter {
             container = new ContainerImpl(parent);
             mParentViewToContainer.put(parent, container);
         }
+        Object viewType = mPowerAdapter.getItemViewType(position);
         if (convertView == null) {
-            convertView = mPowerAdapter.newView(parent, mPowerAdapter.getItemViewType(position));
+            convertView = mPowerAdapter.newView(parent, viewType);
         }
         HolderImpl holder = mHolders.get(convertView);
         if (holder == null) {
@@ -110,10 +142,79 @@ final class ListAdapterConverterAdapter extends BaseAdapter {
             mHolders.put(convertView, holder);
         }
         holder.position = position;
+        holder.viewType = viewType;
+        mParentViews.add(parent);
         mPowerAdapter.bindView(container, convertView, holder, Collections.emptyList());
         return convertView;
     }
 
+    void postNotifyDataSetChanged() {
+        // AdapterView will act on this notification immediately, so we use the following risky technique to ensure
+        // possible subsequent notifications are fully executed before it does so.
+        // This ensures it doesn't try to access ranges of this PowerAdapter that may be in a dirty state, such as
+        // children of ConcatAdapter.
+        mPendingChanges.clear();
+        mHandler.removeCallbacks(mRebindRunnable);
+        mHandler.removeCallbacks(mNotifyDataSetChangedRunnable);
+        mHandler.postAtFrontOfQueue(mNotifyDataSetChangedRunnable);
+        mNotifyDataSetChangedPending = true;
+    }
+
+    /** Rebinds the visible views affected by pending changes, falling back to a full change if a view type changed. */
+    void rebindChangedViews() {
+        for (ViewGroup parent : mParentViews) {
+            ContainerImpl container = mParentViewToContainer.get(parent);
+            if (container == null) {
+                continue;
+            }
+            for (int i = 0; i < parent.getChildCount(); i++) {
+                View child = parent.getChildAt(i);
+                // Header and footer views, among others, aren't ours.
+                HolderImpl holder = mHolders.get(child);
+                if (holder == null || holder.position >= mPowerAdapter.getItemCount()) {
+                    continue;
+                }
+                List<Object> payloads = changePayloads(holder.position);
+                if (payloads == null) {
+                    continue;
+                }
+                if (!mPowerAdapter.getItemViewType(holder.position).equals(holder.viewType)) {
+                    postNotifyDataSetChanged();
+                    return;
+                }
+                mPowerAdapter.bindView(container, child, holder, payloads);
+            }
+        }
+        mPendingChanges.clear();
+    }
+
+    /**
+     * Returns the payloads of the pending changes that include the specified position, or {@code null} if there are
+     * none. An empty list is returned if any of those changes had no payload, indicating a full rebind is required.
+     */
+    @Nullable
+    private List<Object> changePayloads(int position) {
+        List<Object> payloads = null;
+        boolean fullRebind = false;
+        for (int i = 0; i < mPendingChanges.size(); i++) {
+            Change change = mPendingChanges.get(i);
+            if (position >= change.mPositionStart && position < change.mPositionStart + change.mItemCount) {
+                if (payloads == null) {
+                    payloads = new ArrayList<>();
+                }
+                if (change.mPayload != null) {
+                    payloads.add(change.mPayload);
+                } else {
+                    fullRebind = true;
+                }
+            }
+        }
+        if (fullRebind) {
+            return Collections.emptyList();
+        }
+        return payloads;
+    }
+
     @Override
     public boolean hasStableIds() {
         return mPowerAdapter.hasStableIds();
@@ -161,10 +262,29 @@ final class ListAdapterConverterAdapter extends BaseAdapter {
         }
     }
 
+    private static final class Change {
+
+        final int mPositionStart;
+
+        final int mItemCount;
+
+        @Nullable
+        final Object mPayload;
+
+        Change(int positionStart, int itemCount, @Nullable Object payload) {
+            mPositionStart = positionStart;
+            mItemCount = itemCount;
+            mPayload = payload;
+        }
+    }
+
     private static final class HolderImpl implements Holder {
 
         int position;
 
+        /** The view type the view was last bound as. */
+        Object viewType;
+
         HolderImpl() {
         }
 
@@ -0,0 +1,610 @@
+package com.nextfaze.poweradapters;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.nextfaze.poweradapters.internal.WeakMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import androidx.annotation.CallSuper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Presents a hierarchy of adapters of arbitrary depth. Any item may be expanded to reveal the items of a child adapter,
+ * whose items may in turn be expanded, and so on. Unlike nesting {@link TreeAdapter}s, all visible rows are tracked by
+ * a single flattened index, so translating positions costs {@code O(log n)} regardless of depth. Expanding or
+ * collapsing an item, or a structural change in one of the adapters, costs {@code O(log n)} plus time proportional to
+ * the number of expanded siblings.
+ * <p>
+ * Positions accepted by this class are positions within this adapter. Binders of the nested adapters can convert the
+ * {@link Holder} they are given into such a position using {@link #getPosition(Holder)}.
+ * <p>
+ * Expansion state is discarded when the last observer is unregistered, and the children of an adapter that notifies
+ * of a data set change are collapsed. Note that behaviour of this class is undefined if no observers are registered.
+ */
+public final class NestedTreeAdapter extends PowerAdapter {
+
+    @NonNull
+    private final PowerAdapter mRootAdapter;
+
+    @NonNull
+    private final ChildSupplier mChildSupplier;
+
+    @NonNull
+    private final TreeIndex mIndex = new TreeIndex();
+
+    @NonNull
+    private final WeakMap<Object, PowerAdapter> mAdaptersByViewType = new WeakMap<>();
+
+    /** Only present while observers are registered. */
+    @Nullable
+    private Group mRootGroup;
+
+    public NestedTreeAdapter(@NonNull PowerAdapter rootAdapter, @NonNull ChildSupplier childSupplier) {
+        mRootAdapter = checkNotNull(rootAdapter, "rootAdapter");
+        mChildSupplier = checkNotNull(childSupplier, "childSupplier");
+    }
+
+    public boolean isExpanded(int position) {
+        TreeIndex.Node run = mIndex.find(position);
+        return ((Group) run.mOwner).childIndex(innerPosition(run, position)) >= 0;
+    }
+
+    public void setExpanded(int position, boolean expanded) {
+        TreeIndex.Node run = mIndex.find(position);
+        Group group = (Group) run.mOwner;
+        int innerPosition = innerPosition(run, position);
+        int childIndex = group.childIndex(innerPosition);
+        if (expanded && childIndex < 0) {
+            group.expand(innerPosition);
+        } else if (!expanded && childIndex >= 0) {
+            group.collapse(childIndex, true);
+        }
+    }
+
+    public boolean toggleExpanded(int position) {
+        boolean expanded = isExpanded(position);
+        setExpanded(position, !expanded);
+        return isExpanded(position);
+    }
+
+    /** Returns the depth of the item at the specified position, where items of the root adapter have a depth of 0. */
+    public int getDepth(int position) {
+        return ((Group) mIndex.find(position).mOwner).mDepth;
+    }
+
+    /**
+     * Returns the position within this adapter of an item, given the {@link Holder} passed to the nested adapter that
+     * bound it.
+     * @throws IllegalArgumentException If the holder wasn't passed to a nested adapter by this adapter.
+     */
+    public int getPosition(@NonNull Holder holder) {
+        checkNotNull(holder, "holder");
+        Holder h = holder;
+        while (h instanceof HolderWrapper) {
+            if (h instanceof LevelHolder && ((LevelHolder) h).getTreeAdapter() == this) {
+                return ((LevelHolder) h).getHolder().getPosition();
+            }
+            h = ((HolderWrapper) h).getHolder();
+        }
+        throw new IllegalArgumentException("Holder was not bound by this adapter");
+    }
+
+    @Override
+    public int getItemCount() {
+        if (getObserverCount() <= 0) {
+            return 0;
+        }
+        return mIndex.size();
+    }
+
+    /** We don't know all our adapters ahead of time, so can't assume they're stable. */
+    @Override
+    public boolean hasStableIds() {
+        return false;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        TreeIndex.Node run = mIndex.find(position);
+        return ((Group) run.mOwner).mAdapter.getItemId(innerPosition(run, position));
+    }
+
+    @Override
+    public boolean isEnabled(int position) {
+        TreeIndex.Node run = mIndex.find(position);
+        return ((Group) run.mOwner).mAdapter.isEnabled(innerPosition(run, position));
+    }
+
+    @NonNull
+    @Override
+    public Object getItemViewType(int position) {
+        TreeIndex.Node run = mIndex.find(position);
+        PowerAdapter adapter = ((Group) run.mOwner).mAdapter;
+        Object viewType = adapter.getItemViewType(innerPosition(run, position));
+        mAdaptersByViewType.put(viewType, adapter);
+        return viewType;
+    }
+
+    @NonNull
+    @Override
+    public View newView(@NonNull ViewGroup parent, @NonNull Object viewType) {
+        PowerAdapter adapter = mAdaptersByViewType.get(viewType);
+        return (adapter != null ? adapter : mRootAdapter).newView(parent, viewType);
+    }
+
+    @Override
+    public void bindView(
+            @NonNull Container container,
+            @NonNull View view,
+            @NonNull Holder holder,
+            @NonNull List<Object> payloads
+    ) {
+        Group group = (Group) mIndex.find(holder.getPosition()).mOwner;
+        group.mAdapter.bindView(group.wrapContainer(container), view, group.wrapHolder(holder), payloads);
+    }
+
+    @Override
+    public void prefetch(int position) {
+        TreeIndex.Node run = mIndex.find(position);
+        ((Group) run.mOwner).mAdapter.prefetch(innerPosition(run, position));
+    }
+
+    @CallSuper
+    @Override
+    protected void onFirstObserverRegistered() {
+        super.onFirstObserverRegistered();
+        mRootGroup = new Group(mRootAdapter, mChildSupplier, 0);
+        mIndex.insert(0, mRootGroup.firstRun());
+        if (mRootGroup.mItemCount > 0) {
+            notifyItemRangeInserted(0, mRootGroup.mItemCount);
+        }
+        mRootGroup.observe();
+    }
+
+    @CallSuper
+    @Override
+    protected void onLastObserverUnregistered() {
+        super.onLastObserverUnregistered();
+        if (mRootGroup != null) {
+            mRootGroup.dispose();
+            mRootGroup = null;
+        }
+        mIndex.clear();
+    }
+
+    private int innerPosition(@NonNull TreeIndex.Node run, int position) {
+        return run.mStart + position - mIndex.getFoundOffset();
+    }
+
+    /**
+     * The items of a single adapter in the hierarchy, along with the groups of its expanded items. The items are
+     * divided into runs by the expanded items: run {@code i} ends with the expanded item of child group {@code i}, so
+     * there is always one more run than there are child groups. Runs other than the last are never empty.
+     */
+    private final class Group {
+
+        @NonNull
+        private final DataObserver mDataObserver = new DataObserver() {
+            @Override
+            public void onChanged() {
+                TreeIndex.Node first = firstRun();
+                int index = mIndex.indexOf(first);
+                mIndex.remove(index, mIndex.indexOf(lastRun()) + 1);
+                disposeChildren();
+                mChildren.clear();
+                mRuns.clear();
+                mItemCount = mAdapter.getItemCount();
+                mRuns.add(mIndex.newNode(Group.this, 0, mItemCount));
+                mIndex.insert(index, firstRun());
+                notifyDataSetChanged();
+            }
+
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+                int positionEnd = positionStart + itemCount;
+                // Notify in pieces, since expanded children separate the runs.
+                int position = positionStart;
+                for (int i = runIndex(positionStart); position < positionEnd; i++) {
+                    TreeIndex.Node run = mRuns.get(i);
+                    int end = min(positionEnd, run.mStart + run.mLength);
+                    if (end > position) {
+                        notifyItemRangeChanged(mIndex.offsetOf(run) + position - run.mStart, end - position, payload);
+                        position = end;
+                    }
+                }
+                // Children may have changed too, unless this is only a partial change of the items themselves.
+                if (payload != null) {
+                    return;
+                }
+                for (int i = 0; i < mChildren.size(); i++) {
+                    int parentPosition = parentPosition(i);
+                    if (parentPosition >= positionStart && parentPosition < positionEnd) {
+                        Children children = mChildSupplier != null ? mChildSupplier.get(parentPosition) : null;
+                        if (children == null || !children.mAdapter.equals(mChildren.get(i).mAdapter)) {
+                            collapse(i, true);
+                            if (children != null) {
+                                expand(parentPosition, children);
+                            } else {
+                                i--;
+                            }
+                        }
+                    }
+                }
+            }
+
+            @Override
+            public void onItemRangeInserted(int positionStart, int itemCount) {
+                int i = runIndex(positionStart);
+                TreeIndex.Node run = mRuns.get(i);
+                int outerPosition = mIndex.offsetOf(run) + positionStart - run.mStart;
+                mIndex.setLength(run, run.mLength + itemCount);
+                offsetRuns(i + 1, itemCount);
+                mItemCount += itemCount;
+                notifyItemRangeInserted(outerPosition, itemCount);
+            }
+
+            @Override
+            public void onItemRangeRemoved(int positionStart, int itemCount) {
+                int outerStart = outerPosition(positionStart);
+                int outerEnd = outerPosition(positionStart + itemCount);
+                // Removed expanded items take their children with them. This leaves the range within a single run.
+                for (int i = mChildren.size() - 1; i >= 0; i--) {
+                    int parentPosition = parentPosition(i);
+                    if (parentPosition >= positionStart && parentPosition < positionStart + itemCount) {
+                        collapse(i, false);
+                    }
+                }
+                int i = runIndex(positionStart);
+                TreeIndex.Node run = mRuns.get(i);
+                mIndex.setLength(run, run.mLength - itemCount);
+                offsetRuns(i + 1, -itemCount);
+                mItemCount -= itemCount;
+                notifyItemRangeRemoved(outerStart, outerEnd - outerStart);
+            }
+
+            @Override
+            public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+                int outerFrom = outerPosition(fromPosition);
+                int moveCount = outerPosition(fromPosition + itemCount) - outerFrom;
+                int outerTo = toPosition > fromPosition ?
+                        outerPosition(toPosition + itemCount) - moveCount : outerPosition(toPosition);
+                int spanStart = min(fromPosition, toPosition);
+                int spanEnd = max(fromPosition, toPosition) + itemCount;
+                for (int i = 0; i < mChildren.size(); i++) {
+                    int parentPosition = parentPosition(i);
+                    if (parentPosition >= spanStart && parentPosition < spanEnd) {
+                        // Expanded items were moved or displaced, so the runs must be rebuilt.
+                        relayout(fromPosition, toPosition, itemCount);
+                        break;
+                    }
+                }
+                notifyItemRangeMoved(outerFrom, outerTo, moveCount);
+            }
+        };
+
+        @NonNull
+        final PowerAdapter mAdapter;
+
+        @Nullable
+        final ChildSupplier mChildSupplier;
+
+        final int mDepth;
+
+        @NonNull
+        final ArrayList<TreeIndex.Node> mRuns = new ArrayList<>();
+
+        @NonNull
+        final ArrayList<Group> mChildren = new ArrayList<>();
+
+        /** Shadow item count of the adapter. */
+        int mItemCount;
+
+        private boolean mObserving;
+
+        private boolean mDisposed;
+
+        @Nullable
+        private WeakMap<Holder, LevelHolder> mHolders;
+
+        @Nullable
+        private WeakMap<Container, LevelContainer> mContainers;
+
+        Group(@NonNull PowerAdapter adapter, @Nullable ChildSupplier childSupplier, int depth) {
+            mAdapter = adapter;
+            mChildSupplier = childSupplier;
+            mDepth = depth;
+            mItemCount = adapter.getItemCount();
+            mRuns.add(mIndex.newNode(this, 0, mItemCount));
+        }
+
+        /** Must be called once the group's runs are present in the index. */
+        void observe() {
+            mObserving = true;
+            mAdapter.registerDataObserver(mDataObserver);
+        }
+
+        void dispose() {
+            mDisposed = true;
+            if (mObserving) {
+                mAdapter.unregisterDataObserver(mDataObserver);
+                mObserving = false;
+            }
+            disposeChildren();
+        }
+
+        private void disposeChildren() {
+            for (int i = 0; i < mChildren.size(); i++) {
+                mChildren.get(i).dispose();
+            }
+        }
+
+        @NonNull
+        TreeIndex.Node firstRun() {
+            return mRuns.get(0);
+        }
+
+        /** The last run is also the last node of this group's subtree. */
+        @NonNull
+        TreeIndex.Node lastRun() {
+            return mRuns.get(mRuns.size() - 1);
+        }
+
+        /** Returns the index of the run containing the specified item, or the last run if it's the end position. */
+        int runIndex(int position) {
+            int low = 0;
+            int high = mRuns.size() - 1;
+            while (low < high) {
+                int mid = (low + high + 1) >>> 1;
+                if (mRuns.get(mid).mStart <= position) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return low;
+        }
+
+        /** Returns the index of the child group of the specified item, or -1 if it isn't expanded. */
+        int childIndex(int position) {
+            int i = runIndex(position);
+            return i < mChildren.size() && parentPosition(i) == position ? i : -1;
+        }
+
+        int parentPosition(int childIndex) {
+            TreeIndex.Node run = mRuns.get(childIndex);
+            return run.mStart + run.mLength - 1;
+        }
+
+        int outerPosition(int position) {
+            TreeIndex.Node run = mRuns.get(runIndex(position));
+            return mIndex.offsetOf(run) + position - run.mStart;
+        }
+
+        private void offsetRuns(int startIndex, int delta) {
+            for (int i = startIndex; i < mRuns.size(); i++) {
+                mRuns.get(i).mStart += delta;
+            }
+        }
+
+        void expand(int position) {
+            Children children = mChildSupplier != null ? mChildSupplier.get(position) : null;
+            if (children != null) {
+                expand(position, children);
+            }
+        }
+
+        void expand(int position, @NonNull Children children) {
+            int i = runIndex(position);
+            TreeIndex.Node run = mRuns.get(i);
+            Group child = new Group(children.mAdapter, children.mChildSupplier, mDepth + 1);
+            // Split the run after the expanded item, and insert the child between the two halves.
+            int headLength = position + 1 - run.mStart;
+            TreeIndex.Node tail = mIndex.newNode(this, position + 1, run.mLength - headLength);
+            int outerPosition = mIndex.offsetOf(run) + headLength;
+            int index = mIndex.indexOf(run);
+            mIndex.setLength(run, headLength);
+            mIndex.insert(index + 1, TreeIndex.concat(child.firstRun(), tail));
+            mChildren.add(i, child);
+            mRuns.add(i + 1, tail);
+            if (child.mItemCount > 0) {
+                notifyItemRangeInserted(outerPosition, child.mItemCount);
+            }
+            child.observe();
+        }
+
+        void collapse(int childIndex, boolean notify) {
+            Group child = mChildren.get(childIndex);
+            TreeIndex.Node first = child.firstRun();
+            TreeIndex.Node last = child.lastRun();
+            int outerStart = mIndex.offsetOf(first);
+            int removeCount = mIndex.offsetOf(last) + last.mLength - outerStart;
+            mIndex.remove(mIndex.indexOf(first), mIndex.indexOf(last) + 1);
+            child.dispose();
+            // Rejoin the runs either side of the child.
+            TreeIndex.Node run = mRuns.get(childIndex);
+            TreeIndex.Node tail = mRuns.get(childIndex + 1);
+            int tailIndex = mIndex.indexOf(tail);
+            mIndex.remove(tailIndex, tailIndex + 1);
+            mIndex.setLength(run, run.mLength + tail.mLength);
+            mChildren.remove(childIndex);
+            mRuns.remove(childIndex + 1);
+            if (notify && removeCount > 0) {
+                notifyItemRangeRemoved(outerStart, removeCount);
+            }
+        }
+
+        /** Rebuilds the runs to reflect a move of items, carrying the child subtrees with their expanded items. */
+        private void relayout(int fromPosition, int toPosition, int itemCount) {
+            int childCount = mChildren.size();
+            final int[] parentPositions = new int[childCount];
+            TreeIndex.Node[] subtrees = new TreeIndex.Node[childCount];
+            for (int i = childCount - 1; i >= 0; i--) {
+                Group child = mChildren.get(i);
+                parentPositions[i] = movedPosition(parentPosition(i), fromPosition, toPosition, itemCount);
+                subtrees[i] = mIndex.remove(mIndex.indexOf(child.firstRun()), mIndex.indexOf(child.lastRun()) + 1);
+            }
+            // Only this group's own runs remain, and they are contiguous.
+            int index = mIndex.indexOf(firstRun());
+            mIndex.remove(index, index + mRuns.size());
+            Integer[] order = new Integer[childCount];
+            for (int i = 0; i < childCount; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    return parentPositions[a] - parentPositions[b];
+                }
+            });
+            ArrayList<Group> children = new ArrayList<>(mChildren);
+            mChildren.clear();
+            mRuns.clear();
+            TreeIndex.Node nodes = null;
+            int start = 0;
+            for (int i : order) {
+                int end = parentPositions[i] + 1;
+                TreeIndex.Node run = mIndex.newNode(this, start, end - start);
+                mRuns.add(run);
+                mChildren.add(children.get(i));
+                nodes = TreeIndex.concat(TreeIndex.concat(nodes, run), subtrees[i]);
+                start = end;
+            }
+            TreeIndex.Node run = mIndex.newNode(this, start, mItemCount - start);
+            mRuns.add(run);
+            mIndex.insert(index, TreeIndex.concat(nodes, run));
+        }
+
+        @NonNull
+        Holder wrapHolder(@NonNull Holder holder) {
+            if (mHolders == null) {
+                mHolders = new WeakMap<>();
+            }
+            LevelHolder levelHolder = mHolders.get(holder);
+            if (levelHolder == null) {
+                levelHolder = new LevelHolder(holder, this);
+                mHolders.put(holder, levelHolder);
+            }
+            return levelHolder;
+        }
+
+        @NonNull
+        Container wrapContainer(@NonNull Container container) {
+            if (mContainers == null) {
+                mContainers = new WeakMap<>();
+            }
+            LevelContainer levelContainer = mContainers.get(container);
+            if (levelContainer == null) {
+                levelContainer = new LevelContainer(container, this);
+                mContainers.put(container, levelContainer);
+            }
+            return levelContainer;
+        }
+
+        /** Converts a position of this adapter to one of the group's adapter, or -1 if it's not within this group. */
+        int innerPosition(int outerPosition) {
+            if (mDisposed || outerPosition < 0 || outerPosition >= mIndex.size()) {
+                return -1;
+            }
+            TreeIndex.Node run = mIndex.find(outerPosition);
+            return run.mOwner == this ? NestedTreeAdapter.this.innerPosition(run, outerPosition) : -1;
+        }
+    }
+
+    private static int movedPosition(int position, int fromPosition, int toPosition, int itemCount) {
+        if (position >= fromPosition && position < fromPosition + itemCount) {
+            return position + toPosition - fromPosition;
+        }
+        if (fromPosition < toPosition && position >= fromPosition + itemCount && position < toPosition + itemCount) {
+            return position - itemCount;
+        }
+        if (fromPosition > toPosition && position >= toPosition && position < fromPosition) {
+            return position + itemCount;
+        }
+        return position;
+    }
+
+    private final class LevelHolder extends HolderWrapper {
+
+        @NonNull
+        private final Group mGroup;
+
+        LevelHolder(@NonNull Holder holder, @NonNull Group group) {
+            super(holder);
+            mGroup = group;
+        }
+
+        @NonNull
+        NestedTreeAdapter getTreeAdapter() {
+            return NestedTreeAdapter.this;
+        }
+
+        @Override
+        public int getPosition() {
+            return mGroup.innerPosition(super.getPosition());
+        }
+    }
+
+    private final class LevelContainer extends ContainerWrapper {
+
+        @NonNull
+        private final Group mGroup;
+
+        LevelContainer(@NonNull Container container, @NonNull Group group) {
+            super(container);
+            mGroup = group;
+        }
+
+        @Override
+        public void scrollToPosition(int position) {
+            if (!mGroup.mDisposed) {
+                super.scrollToPosition(mGroup.outerPosition(position));
+            }
+        }
+
+        @Override
+        public int getItemCount() {
+            return mGroup.mItemCount;
+        }
+    }
+
+    /** Supplies the children of the items of an adapter in the hierarchy. */
+    public interface ChildSupplier {
+        /**
+         * Returns the children of the item at the specified position of its adapter, or {@code null} if the item has
+         * no children. Invoked when the item is expanded, or when it changes without a payload while expanded. If the
+         * returned adapter is equal to the current one, the existing children and their expansion state are kept.
+         */
+        @Nullable
+        Children get(int position);
+    }
+
+    /** The child adapter of an item, along with the supplier of the children of its own items. */
+    public static final class Children {
+
+        @NonNull
+        final PowerAdapter mAdapter;
+
+        @Nullable
+        final ChildSupplier mChildSupplier;
+
+        /** Creates children whose items cannot be expanded. */
+        public Children(@NonNull PowerAdapter adapter) {
+            this(adapter, null);
+        }
+
+        public Children(@NonNull PowerAdapter adapter, @Nullable ChildSupplier childSupplier) {
+            mAdapter = checkNotNull(adapter, "adapter");
+            mChildSupplier = childSupplier;
+        }
+    }
+}
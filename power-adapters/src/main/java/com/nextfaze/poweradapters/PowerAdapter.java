@@ -168,6 +168,15 @@ public abstract class PowerAdapter {
             @NonNull List<Object> payloads
     );
 
+    /**
+     * Hints that the item at {@code position} is likely to be bound soon, such as when it's about to be scrolled into
+     * view, so expensive preparation for binding can begin ahead of time. By default, does nothing.
+     * @param position The position of the item within the adapter's data set.
+     * @see com.nextfaze.poweradapters.binding.PrefetchingBinder
+     */
+    public void prefetch(int position) {
+    }
+
     /**
      * Registers an observer with this adapter, to be notified of data set changes.
      * <p>
@@ -545,6 +554,29 @@ public abstract class PowerAdapter {
         return new ConditionalAdapter(this, condition);
     }
 
+    /**
+     * Returns a new adapter that presents the items of this adapter only while the specified condition evaluates to
+     * {@code true}, ignoring changes of the condition that don't last. The items are only shown or hidden once the
+     * condition has gone {@code debounceMillis} without changing again, so a condition that flips back and forth in
+     * quick succession, such as the loading state while consecutive pages load, doesn't repeatedly insert and remove
+     * them. The condition is evaluated immediately when the adapter is first observed.
+     * @param condition The condition dictating whether to show the items.
+     * @param debounceMillis How long the condition must remain unchanged before it takes effect.
+     * @return A new adapter.
+     */
+    @CheckResult
+    @NonNull
+    public final PowerAdapter showOnlyWhile(@NonNull Condition condition, long debounceMillis) {
+        checkNotNull(condition, "condition");
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("debounceMillis < 0");
+        }
+        if (condition instanceof ConstantCondition || debounceMillis == 0) {
+            return showOnlyWhile(condition);
+        }
+        return new ConditionalAdapter(this, condition, debounceMillis);
+    }
+
     /**
      * Returns a new adapter that wraps each item {@link View} with the specified view. The {@link ViewGroup} must not
      * contain any other child views.
@@ -602,6 +634,27 @@ public abstract class PowerAdapter {
         return new ConcatAdapterBuilder().addAll(adapters).build();
     }
 
+    /**
+     * Creates a composite adapter containing the items of all of the specified adapters in order, which has stable IDs
+     * if all of the specified adapters do. Unlike {@link #concat(PowerAdapter...)}, item IDs are namespaced by the
+     * index of the adapter they came from, so IDs from different adapters can't collide. This requires that the IDs of
+     * each adapter fit within the low {@code 64 - ceil(log2(adapters.length))} bits.
+     */
+    @CheckResult
+    @NonNull
+    public static PowerAdapter concatWithStableIds(@NonNull PowerAdapter... adapters) {
+        checkNotNull(adapters, "adapters");
+        return new ConcatAdapterBuilder().addAll(adapters).namespaceIds(true).build();
+    }
+
+    /** @see #concatWithStableIds(PowerAdapter...) */
+    @CheckResult
+    @NonNull
+    public static PowerAdapter concatWithStableIds(@NonNull Iterable<? extends PowerAdapter> adapters) {
+        checkNotNull(adapters, "adapters");
+        return new ConcatAdapterBuilder().addAll(adapters).namespaceIds(true).build();
+    }
+
     /** Converts the specified fixed array of views to an adapter. */
     @CheckResult
     @NonNull
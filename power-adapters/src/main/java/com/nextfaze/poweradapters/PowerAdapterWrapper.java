@@ -143,6 +143,16 @@ public class PowerAdapterWrapper extends PowerAdapter {
         mAdapter.bindView(containerWrapper, view, holderWrapper, payloads);
     }
 
+    /**
+     * Forwards the call to the wrapped adapter, converting the {@code position} value to the wrapped adapter's
+     * coordinate space.
+     * @see #outerToInner(int)
+     */
+    @Override
+    public void prefetch(int position) {
+        mAdapter.prefetch(outerToInner(position));
+    }
+
     /**
      * Converts a {@code position} in this adapter's coordinate space to the coordinate space of the wrapped adapter.
      * By default, simply returns returns the position value unchanged. Must be overridden by subclasses that augment
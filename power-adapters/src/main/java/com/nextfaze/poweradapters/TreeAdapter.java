@@ -8,7 +8,7 @@ import android.view.ViewGroup;
 import com.nextfaze.poweradapters.internal.WeakMap;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
 
 import androidx.annotation.CallSuper;
@@ -16,17 +16,26 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
-import static java.util.Collections.swap;
-
-/** Allows hierarchical adapter usage. Note that behaviour of this class is undefined if no observers are registered. */
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.copyOf;
+import static java.util.Collections.rotate;
+
+/**
+ * Allows hierarchical adapter usage. Note that behaviour of this class is undefined if no observers are registered.
+ * <p>
+ * Collapsed root items are represented implicitly; per-item state is only allocated for expanded items, so the cost of
+ * position lookups and structural changes scales with the number of expanded items rather than the number of root
+ * items.
+ */
 public final class TreeAdapter extends PowerAdapter {
 
     @NonNull
     private final DataObserver mRootDataObserver = new SimpleDataObserver() {
         @Override
         public void onChanged() {
-            rebuildAllEntriesAndRangeTable();
-            updateEntryAdapters();
+            rebuildEntries();
             notifyDataSetChanged();
         }
 
@@ -34,44 +43,53 @@ public final class TreeAdapter extends PowerAdapter {
         public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
             for (int i = positionStart; i < positionStart + itemCount; i++) {
                 notifyItemChanged(rootToOuter(i), payload);
-                Entry entry = mEntries.get(i);
-                entry.setAdapter(entry.getAdapter() != null ? getChildAdapter(i) : null);
+                Entry entry = getEntry(i);
+                if (entry != null) {
+                    entry.setAdapter(getChildAdapter(i));
+                }
             }
         }
 
         @Override
         public void onItemRangeInserted(int positionStart, int itemCount) {
-            for (int i = positionStart; i < positionStart + itemCount; i++) {
-                addEntry(i);
-            }
-            rebuildRangeTable();
+            int index = entryIndex(positionStart);
+            offsetRootPositions(index, mEntries.size(), itemCount);
+            mRootItemCount += itemCount;
+            updateOffsets(index);
             notifyItemRangeInserted(rootToOuter(positionStart), itemCount);
-            for (int i = positionStart; i < positionStart + itemCount; i++) {
-                mEntries.get(i).setAdapter(shouldExpand(i) ? getChildAdapter(i) : null);
+            if (canExpandImplicitly()) {
+                for (int i = positionStart; i < positionStart + itemCount; i++) {
+                    if (shouldExpand(i)) {
+                        expandEntry(entryIndex(i), i);
+                    }
+                }
             }
         }
 
         @Override
         public void onItemRangeRemoved(int positionStart, int itemCount) {
-            int removeCount = 0;
             int removeStart = rootToOuter(positionStart);
-            for (int i = 0; i < itemCount; i++) {
-                removeCount += removeEntry(positionStart);
+            int removeCount = rootToOuter(positionStart + itemCount) - removeStart;
+            int startIndex = entryIndex(positionStart);
+            int endIndex = entryIndex(positionStart + itemCount);
+            for (int i = startIndex; i < endIndex; i++) {
+                mEntries.get(i).dispose();
             }
-            rebuildRangeTable();
+            mEntries.subList(startIndex, endIndex).clear();
+            offsetRootPositions(startIndex, mEntries.size(), -itemCount);
+            mRootItemCount -= itemCount;
+            updateOffsets(startIndex);
             notifyItemRangeRemoved(removeStart, removeCount);
         }
 
         @Override
         public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
-            int moveCount = 0;
-            for (int i = 0; i < itemCount; i++) {
-                moveCount += mEntries.get(fromPosition + i).getItemCount();
-            }
             int outerFromPosition = rootToOuter(fromPosition);
-            int outerToPosition = rootToOuter(toPosition);
+            int moveCount = rootToOuter(fromPosition + itemCount) - outerFromPosition;
+            int outerToPosition = toPosition > fromPosition ?
+                    rootToOuter(toPosition + itemCount) - moveCount : rootToOuter(toPosition);
             moveEntries(fromPosition, toPosition, itemCount);
-            rebuildRangeTable();
+            updateOffsets(entryIndex(min(fromPosition, toPosition)));
             notifyItemRangeMoved(outerFromPosition, outerToPosition, moveCount);
         }
     };
@@ -85,6 +103,7 @@ public final class TreeAdapter extends PowerAdapter {
     @NonNull
     private final SubAdapter mRootSubAdapter;
 
+    /** Expanded items only, ordered by root position. */
     @NonNull
     final ArrayList<Entry> mEntries = new ArrayList<>();
 
@@ -92,30 +111,21 @@ public final class TreeAdapter extends PowerAdapter {
     private final WeakMap<Object, PowerAdapter> mAdaptersByViewType = new WeakMap<>();
 
     @NonNull
-    private final RangeTable.RangeClient mShadowRangeClient = new RangeTable.RangeClient() {
-        @Override
-        public int size() {
-            return mEntries.size();
-        }
+    private TreeState mState = new TreeState();
 
-        @Override
-        public int getRangeCount(int position) {
-            return mEntries.get(position).getItemCount();
-        }
+    /** Item IDs assigned to child items, keyed by the ID of their root item and their ID within the child adapter. */
+    @NonNull
+    private final HashMap<ChildId, Long> mChildIds = new HashMap<>();
 
-        @Override
-        public void setOffset(int position, int offset) {
-            mEntries.get(position).setOffset(offset);
-        }
-    };
+    private boolean mAutoExpand;
 
-    @NonNull
-    private final RangeTable mRangeTable = new RangeTable();
+    private boolean mStableIds;
 
-    @NonNull
-    private TreeState mState = new TreeState();
+    /** Shadow root item count, only valid while observers are registered. */
+    private int mRootItemCount;
 
-    private boolean mAutoExpand;
+    /** Total child item count of all expanded entries. */
+    private int mChildItemCount;
 
     public TreeAdapter(@NonNull PowerAdapter rootAdapter, @NonNull ChildAdapterSupplier childAdapterSupplier) {
         checkNotNull(rootAdapter, "rootAdapter");
@@ -147,8 +157,10 @@ public final class TreeAdapter extends PowerAdapter {
      */
     public void restoreInstanceState(@Nullable Parcelable parcelable) {
         mState = parcelable instanceof TreeState ? (TreeState) parcelable : new TreeState();
-        rebuildAllEntriesAndRangeTable();
-        updateEntryAdapters();
+        if (getObserverCount() > 0) {
+            rebuildEntries();
+            notifyDataSetChanged();
+        }
     }
 
     public boolean isAutoExpand() {
@@ -163,8 +175,7 @@ public final class TreeAdapter extends PowerAdapter {
         if (mRootAdapter.hasStableIds()) {
             return mState.isExpanded(mRootAdapter.getItemId(position));
         }
-        Entry entry = mEntries.get(position);
-        return entry != null && entry.getAdapter() != null;
+        return getEntry(position) != null;
     }
 
     public void setExpanded(int position, boolean expanded) {
@@ -172,11 +183,13 @@ public final class TreeAdapter extends PowerAdapter {
             long itemId = mRootAdapter.getItemId(position);
             mState.setExpanded(itemId, expanded);
         }
-        if (position < mEntries.size()) {
-            Entry entry = mEntries.get(position);
-            boolean alreadyExpanded = entry.getAdapter() != null;
-            if (expanded != alreadyExpanded) {
-                entry.setAdapter(expanded ? getChildAdapter(position) : null);
+        if (getObserverCount() > 0 && position < mRootItemCount) {
+            int index = entryIndex(position);
+            boolean alreadyExpanded = index < mEntries.size() && mEntries.get(index).mRootPosition == position;
+            if (expanded && !alreadyExpanded) {
+                expandEntry(index, position);
+            } else if (!expanded && alreadyExpanded) {
+                collapseEntry(index);
             }
         }
     }
@@ -193,6 +206,30 @@ public final class TreeAdapter extends PowerAdapter {
         }
     }
 
+    public boolean isStableIds() {
+        return mStableIds;
+    }
+
+    /**
+     * Sets whether this adapter reports stable IDs, which is {@code false} by default. When enabled, this adapter has
+     * stable IDs if the root adapter does, and the IDs of child items are remapped so they can't collide with each
+     * other or with root items. Root item IDs must fit within 63 bits. Child adapters must also have stable IDs,
+     * otherwise their items have no ID.
+     * <p>
+     * IDs assigned to child items are retained while this adapter is observed, so memory usage grows with the number
+     * of distinct child items shown during that time.
+     * <p>
+     * Must be set before this adapter is observed or converted, because converted adapters such as those returned by
+     * {@code RecyclerPowerAdapters.toRecyclerAdapter} only query {@link #hasStableIds()} when they are created.
+     * @throws IllegalStateException If this adapter has observers.
+     */
+    public void setStableIds(boolean stableIds) {
+        if (getObserverCount() > 0) {
+            throw new IllegalStateException("Stable IDs cannot be changed while observed.");
+        }
+        mStableIds = stableIds;
+    }
+
     @NonNull
     PowerAdapter getChildAdapter(int position) {
         return mChildAdapterSupplier.get(position);
@@ -203,22 +240,41 @@ public final class TreeAdapter extends PowerAdapter {
         if (getObserverCount() <= 0) {
             return 0;
         }
-        if (mEntries.size() == 0) {
-            return 0;
-        }
-        Entry entry = mEntries.get(mEntries.size() - 1);
-        return entry.getOffset() + entry.getItemCount();
+        return mRootItemCount + mChildItemCount;
     }
 
-    /** We don't know all our adapters ahead of time, so can't assume they're stable. */
+    /** Unless enabled, we don't know all our adapters ahead of time, so can't assume they're stable. */
     @Override
     public boolean hasStableIds() {
-        return false;
+        return mStableIds && mRootAdapter.hasStableIds();
     }
 
     @Override
     public long getItemId(int position) {
-        return outerToAdapter(position).getItemId(position);
+        PowerAdapter adapter = outerToAdapter(position);
+        if (!hasStableIds()) {
+            return adapter.getItemId(position);
+        }
+        int rootPosition = outerToRoot(position);
+        long rootId = mRootAdapter.getItemId(rootPosition);
+        if (rootId == NO_ID) {
+            return NO_ID;
+        }
+        if (adapter == mRootSubAdapter) {
+            // Root IDs are even, child IDs are odd.
+            return rootId << 1;
+        }
+        long childId = adapter.hasStableIds() ? adapter.getItemId(position) : NO_ID;
+        if (childId == NO_ID) {
+            return NO_ID;
+        }
+        ChildId key = new ChildId(rootId, childId);
+        Long itemId = mChildIds.get(key);
+        if (itemId == null) {
+            itemId = (long) mChildIds.size() << 1 | 1;
+            mChildIds.put(key, itemId);
+        }
+        return itemId;
     }
 
     @Override
@@ -251,18 +307,21 @@ public final class TreeAdapter extends PowerAdapter {
         outerToAdapter(holder.getPosition()).bindView(container, view, holder, payloads);
     }
 
+    @Override
+    public void prefetch(int position) {
+        outerToAdapter(position).prefetch(position);
+    }
+
     @CallSuper
     @Override
     protected void onFirstObserverRegistered() {
         super.onFirstObserverRegistered();
-        int insertCount = mRootAdapter.getItemCount();
         mRootAdapter.registerDataObserver(mRootDataObserver);
-        rebuildAllEntriesAndRangeTable();
+        rebuildEntries();
+        int insertCount = getItemCount();
         if (insertCount > 0) {
             notifyItemRangeInserted(0, insertCount);
         }
-        updateEntryAdapters();
-        updateEntryObservers();
     }
 
     @CallSuper
@@ -270,63 +329,138 @@ public final class TreeAdapter extends PowerAdapter {
     protected void onLastObserverUnregistered() {
         super.onLastObserverUnregistered();
         mRootAdapter.unregisterDataObserver(mRootDataObserver);
-        updateEntryObservers();
+        clearEntries();
+        mChildIds.clear();
+        mRootItemCount = 0;
+    }
+
+    /** Discards all entries, and recreates those that should be expanded without issuing any notifications. */
+    void rebuildEntries() {
+        clearEntries();
+        mRootItemCount = mRootAdapter.getItemCount();
+        if (canExpandImplicitly()) {
+            for (int i = 0; i < mRootItemCount; i++) {
+                if (shouldExpand(i)) {
+                    mEntries.add(new Entry(i, getChildAdapter(i)));
+                }
+            }
+        }
+        updateOffsets(0);
     }
 
-    void addEntry(int position) {
-        Entry entry = new Entry();
-        mEntries.add(position, entry);
+    private void expandEntry(int index, int rootPosition) {
+        Entry entry = new Entry(rootPosition, null);
+        mEntries.add(index, entry);
+        updateOffsets(index);
+        // Assigning the adapter notifies of the child insertion via the entry's observer.
+        entry.setAdapter(getChildAdapter(rootPosition));
     }
 
-    int removeEntry(int position) {
-        Entry entry = mEntries.remove(position);
-        // Includes root item.
-        int itemCount = entry.getItemCount();
+    private void collapseEntry(int index) {
+        Entry entry = mEntries.get(index);
+        entry.setAdapter(null);
         entry.dispose();
-        return itemCount;
+        mEntries.remove(index);
+        updateOffsets(index);
     }
 
+    private void clearEntries() {
+        for (int i = 0; i < mEntries.size(); i++) {
+            mEntries.get(i).dispose();
+        }
+        mEntries.clear();
+        mChildItemCount = 0;
+    }
+
+    /** Moves the entries of the specified root range by rotating them with the entries they displace. */
     void moveEntries(int fromPosition, int toPosition, int count) {
         if (count <= 0) {
             throw new IllegalArgumentException("count <= 0");
         }
+        int movedStart = entryIndex(fromPosition);
+        int movedEnd = entryIndex(fromPosition + count);
         if (fromPosition < toPosition) {
-            for (int j = count - 1; j >= 0; j--) {
-                for (int i = fromPosition + j; i < toPosition + j; i++) {
-                    swap(mEntries, i, i + 1);
-                }
-            }
-        } else {
-            for (int j = count - 1; j >= 0; j--) {
-                for (int i = fromPosition + j; i > toPosition + j; i--) {
-                    swap(mEntries, i, i - 1);
-                }
+            int displacedEnd = entryIndex(toPosition + count);
+            offsetRootPositions(movedStart, movedEnd, toPosition - fromPosition);
+            offsetRootPositions(movedEnd, displacedEnd, -count);
+            rotate(mEntries.subList(movedStart, displacedEnd), displacedEnd - movedEnd);
+        } else if (fromPosition > toPosition) {
+            int displacedStart = entryIndex(toPosition);
+            offsetRootPositions(movedStart, movedEnd, toPosition - fromPosition);
+            offsetRootPositions(displacedStart, movedStart, count);
+            rotate(mEntries.subList(displacedStart, movedEnd), movedEnd - movedStart);
+        }
+    }
+
+    private void offsetRootPositions(int startIndex, int endIndex, int delta) {
+        for (int i = startIndex; i < endIndex; i++) {
+            mEntries.get(i).mRootPosition += delta;
+        }
+    }
+
+    /** Recalculates the outer offsets of all entries from the specified index onwards. */
+    void updateOffsets(int startIndex) {
+        int childCount = 0;
+        if (startIndex > 0) {
+            Entry previous = mEntries.get(startIndex - 1);
+            childCount = previous.mChildOffset + previous.getChildCount();
+        }
+        for (int i = startIndex; i < mEntries.size(); i++) {
+            Entry entry = mEntries.get(i);
+            entry.setChildOffset(childCount);
+            childCount += entry.getChildCount();
+        }
+        mChildItemCount = childCount;
+    }
+
+    /** Returns the index of the first entry whose root position is equal to or greater than the specified position. */
+    int entryIndex(int rootPosition) {
+        int low = 0;
+        int high = mEntries.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midPosition = mEntries.get(mid).mRootPosition;
+            if (midPosition < rootPosition) {
+                low = mid + 1;
+            } else if (midPosition > rootPosition) {
+                high = mid - 1;
+            } else {
+                return mid;
             }
         }
+        return low;
     }
 
-    void rebuildAllEntriesAndRangeTable() {
-        mEntries.clear();
-        for (int i = 0; i < mRootAdapter.getItemCount(); i++) {
-            mEntries.add(new Entry());
+    /** Returns the index of the last entry whose outer offset is equal to or less than the specified position. */
+    private int entryIndexForOuter(int outerPosition) {
+        int low = 0;
+        int high = mEntries.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (mEntries.get(mid).getOffset() <= outerPosition) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
         }
-        rebuildRangeTable();
-    }
-
-    void rebuildRangeTable() {
-        mRangeTable.rebuild(mShadowRangeClient);
+        return high;
     }
 
-    void updateEntryAdapters() {
-        for (int i = 0; i < mEntries.size(); i++) {
-            mEntries.get(i).setAdapter(shouldExpand(i) ? getChildAdapter(i) : null);
+    @Nullable
+    private Entry getEntry(int rootPosition) {
+        int index = entryIndex(rootPosition);
+        if (index < mEntries.size()) {
+            Entry entry = mEntries.get(index);
+            if (entry.mRootPosition == rootPosition) {
+                return entry;
+            }
         }
+        return null;
     }
 
-    private void updateEntryObservers() {
-        for (int i = 0; i < mEntries.size(); i++) {
-            mEntries.get(i).updateObserver();
-        }
+    /** Returns whether any root items might need to be expanded without an explicit call to {@link #setExpanded}. */
+    private boolean canExpandImplicitly() {
+        return mAutoExpand || mRootAdapter.hasStableIds() && !mState.isEmpty();
     }
 
     boolean shouldExpand(int rootPosition) {
@@ -340,16 +474,16 @@ public final class TreeAdapter extends PowerAdapter {
 
     @NonNull
     private PowerAdapter outerToAdapter(int outerPosition) {
-        int entryIndex = mRangeTable.findPosition(outerPosition);
-        Entry entry = mEntries.get(entryIndex);
-        if (entry.getItemCount() <= 0) {
-            throw new AssertionError();
-        }
-        if (outerPosition - entry.getOffset() == 0) {
-            mRootSubAdapter.setOffset(entry.getOffset() - entryIndex);
-            return mRootSubAdapter;
+        int entryIndex = entryIndexForOuter(outerPosition);
+        if (entryIndex >= 0) {
+            Entry entry = mEntries.get(entryIndex);
+            int childPosition = outerPosition - entry.getOffset() - 1;
+            if (childPosition >= 0 && childPosition < entry.getChildCount()) {
+                return entry.mAdapter;
+            }
         }
-        return entry.mAdapter;
+        mRootSubAdapter.setOffset(outerPosition - outerToRoot(outerPosition));
+        return mRootSubAdapter;
     }
 
     @NonNull
@@ -359,15 +493,31 @@ public final class TreeAdapter extends PowerAdapter {
     }
 
     int outerToRoot(int outerPosition) {
-        int entryIndex = mRangeTable.findPosition(outerPosition);
+        int entryIndex = entryIndexForOuter(outerPosition);
+        if (entryIndex < 0) {
+            return outerPosition;
+        }
         Entry entry = mEntries.get(entryIndex);
-        return outerPosition - (entry.getOffset() - entryIndex);
+        if (outerPosition - entry.getOffset() <= entry.getChildCount()) {
+            // Either the root item of this entry, or one of its children.
+            return entry.mRootPosition;
+        }
+        return outerPosition - entry.mChildOffset - entry.getChildCount();
     }
 
     int rootToOuter(int rootPosition) {
-        return mEntries.get(rootPosition).getOffset();
+        int index = entryIndex(rootPosition);
+        if (index < mEntries.size() && mEntries.get(index).mRootPosition == rootPosition) {
+            return mEntries.get(index).getOffset();
+        }
+        if (index == 0) {
+            return rootPosition;
+        }
+        Entry previous = mEntries.get(index - 1);
+        return rootPosition + previous.mChildOffset + previous.getChildCount();
     }
 
+    /** Child state of an expanded root item. */
     private final class Entry {
 
         @NonNull
@@ -375,7 +525,7 @@ public final class TreeAdapter extends PowerAdapter {
             @Override
             public void onChanged() {
                 mShadowItemCount = mAdapter.getItemCount();
-                rebuildRangeTable();
+                updateOffsets(entryIndex(mRootPosition));
                 notifyDataSetChanged();
             }
 
@@ -387,14 +537,14 @@ public final class TreeAdapter extends PowerAdapter {
             @Override
             public void onItemRangeInserted(int positionStart, int itemCount) {
                 mShadowItemCount += itemCount;
-                rebuildRangeTable();
+                updateOffsets(entryIndex(mRootPosition));
                 notifyItemRangeInserted(positionStart, itemCount);
             }
 
             @Override
             public void onItemRangeRemoved(int positionStart, int itemCount) {
                 mShadowItemCount -= itemCount;
-                rebuildRangeTable();
+                updateOffsets(entryIndex(mRootPosition));
                 notifyItemRangeRemoved(positionStart, itemCount);
             }
 
@@ -414,10 +564,14 @@ public final class TreeAdapter extends PowerAdapter {
 
         int mShadowItemCount;
 
-        private int mOffset;
+        int mRootPosition;
+
+        /** Total child item count of all preceding entries. */
+        int mChildOffset;
 
-        Entry() {
-            mDelegateAdapter = new DelegateAdapter();
+        Entry(int rootPosition, @Nullable PowerAdapter adapter) {
+            mRootPosition = rootPosition;
+            mDelegateAdapter = new DelegateAdapter(adapter);
             mAdapter = new SubAdapter(mDelegateAdapter);
             updateObserver();
         }
@@ -426,25 +580,21 @@ public final class TreeAdapter extends PowerAdapter {
             mDelegateAdapter.setDelegate(adapter);
         }
 
-        @Nullable
-        PowerAdapter getAdapter() {
-            return mDelegateAdapter.getDelegate();
-        }
-
+        /** Returns the outer position of the root item. */
         int getOffset() {
-            return mOffset;
+            return mRootPosition + mChildOffset;
         }
 
-        void setOffset(int offset) {
-            mOffset = offset;
-            mAdapter.setOffset(offset + 1);
+        void setChildOffset(int childOffset) {
+            mChildOffset = childOffset;
+            mAdapter.setOffset(getOffset() + 1);
         }
 
-        int getItemCount() {
+        int getChildCount() {
             if (!mObserving) {
                 return 0;
             }
-            return mShadowItemCount + 1;
+            return mShadowItemCount;
         }
 
         void updateObserver() {
@@ -472,7 +622,36 @@ public final class TreeAdapter extends PowerAdapter {
 
         @Override
         public String toString() {
-            return "[offset: " + getOffset() + ", count: " + getItemCount()  + "]";
+            return "[root: " + mRootPosition + ", offset: " + getOffset() + ", count: " + getChildCount() + "]";
+        }
+    }
+
+    private static final class ChildId {
+
+        final long mRootId;
+
+        final long mChildId;
+
+        ChildId(long rootId, long childId) {
+            mRootId = rootId;
+            mChildId = childId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ChildId)) {
+                return false;
+            }
+            ChildId that = (ChildId) o;
+            return mRootId == that.mRootId && mChildId == that.mChildId;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (int) (mRootId ^ (mRootId >>> 32)) + (int) (mChildId ^ (mChildId >>> 32));
         }
     }
 
@@ -491,24 +670,35 @@ public final class TreeAdapter extends PowerAdapter {
             }
         };
 
+        /** Expanded item ids in ascending order. Only the first {@link #mSize} elements are valid. */
         @NonNull
-        private final HashSet<Long> mExpanded;
+        private long[] mExpanded;
+
+        private int mSize;
 
         TreeState(@NonNull Parcel parcel) {
-            //noinspection unchecked
-            mExpanded = (HashSet<Long>) parcel.readSerializable();
+            mExpanded = parcel.createLongArray();
+            mSize = mExpanded.length;
         }
 
         TreeState() {
-            mExpanded = new HashSet<>();
+            mExpanded = new long[8];
         }
 
         void setExpanded(long itemId, boolean expanded) {
             if (itemId != NO_ID) {
-                if (expanded) {
-                    mExpanded.add(itemId);
-                } else {
-                    mExpanded.remove(itemId);
+                int index = binarySearch(mExpanded, 0, mSize, itemId);
+                if (expanded && index < 0) {
+                    index = -index - 1;
+                    if (mSize == mExpanded.length) {
+                        mExpanded = copyOf(mExpanded, max(8, mSize * 2));
+                    }
+                    System.arraycopy(mExpanded, index, mExpanded, index + 1, mSize - index);
+                    mExpanded[index] = itemId;
+                    mSize++;
+                } else if (!expanded && index >= 0) {
+                    System.arraycopy(mExpanded, index + 1, mExpanded, index, mSize - index - 1);
+                    mSize--;
                 }
             }
         }
@@ -518,15 +708,15 @@ public final class TreeAdapter extends PowerAdapter {
             if (itemId == NO_ID) {
                 return false;
             }
-            return mExpanded.contains(itemId);
+            return binarySearch(mExpanded, 0, mSize, itemId) >= 0;
         }
 
         void clear() {
-            mExpanded.clear();
+            mSize = 0;
         }
 
         boolean isEmpty() {
-            return mExpanded.isEmpty();
+            return mSize == 0;
         }
 
         @Override
@@ -536,10 +726,14 @@ public final class TreeAdapter extends PowerAdapter {
 
         @Override
         public void writeToParcel(@NonNull Parcel parcel, int flags) {
-            parcel.writeSerializable(mExpanded);
+            parcel.writeLongArray(copyOf(mExpanded, mSize));
         }
     }
 
+    /**
+     * Supplies the child adapter of a root item. Called synchronously on the UI thread whenever an item is expanded; use
+     * {@link AsyncChildAdapterSupplier} if child adapters are expensive to create.
+     */
     public interface ChildAdapterSupplier {
         @NonNull
         PowerAdapter get(int position);
@@ -0,0 +1,244 @@
+package com.nextfaze.poweradapters;
+
+import java.util.Random;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Order-statistic sequence of variable-length nodes, implemented as an implicit treap. Each node represents a run of
+ * consecutive rows, and the sequence as a whole represents the flattened rows of a tree. Locating the node containing
+ * a row, calculating the row offset of a node, resizing a node, and inserting or removing a range of nodes are all
+ * {@code O(log n)} in the number of nodes.
+ */
+final class TreeIndex {
+
+    @NonNull
+    private final Random mRandom = new Random();
+
+    @Nullable
+    private Node mRoot;
+
+    /** Row offset of the node most recently returned by {@link #find(int)}. */
+    private int mFoundOffset;
+
+    /** Results of the most recent {@link #split(Node, int)}. */
+    @Nullable
+    private Node mSplitLeft;
+
+    @Nullable
+    private Node mSplitRight;
+
+    TreeIndex() {
+    }
+
+    /** Returns the total row count of all nodes. */
+    int size() {
+        return length(mRoot);
+    }
+
+    @NonNull
+    Node newNode(@NonNull Object owner, int start, int length) {
+        return new Node(owner, start, length, mRandom.nextInt());
+    }
+
+    /**
+     * Returns the non-empty node containing the specified row. The row offset of the node is then available via
+     * {@link #getFoundOffset()}.
+     */
+    @NonNull
+    Node find(int position) {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException("Position: " + position + ", size: " + size());
+        }
+        Node node = mRoot;
+        int offset = 0;
+        while (node != null) {
+            int leftLength = length(node.mLeft);
+            if (position < leftLength) {
+                node = node.mLeft;
+            } else if (position < leftLength + node.mLength) {
+                mFoundOffset = offset + leftLength;
+                return node;
+            } else {
+                position -= leftLength + node.mLength;
+                offset += leftLength + node.mLength;
+                node = node.mRight;
+            }
+        }
+        throw new AssertionError();
+    }
+
+    int getFoundOffset() {
+        return mFoundOffset;
+    }
+
+    /** Returns the row offset of the specified node, which is the total length of all preceding nodes. */
+    int offsetOf(@NonNull Node node) {
+        int offset = length(node.mLeft);
+        for (Node n = node; n.mParent != null; n = n.mParent) {
+            if (n == n.mParent.mRight) {
+                offset += length(n.mParent.mLeft) + n.mParent.mLength;
+            }
+        }
+        return offset;
+    }
+
+    /** Returns the index of the specified node, which is the number of preceding nodes. */
+    int indexOf(@NonNull Node node) {
+        int index = count(node.mLeft);
+        for (Node n = node; n.mParent != null; n = n.mParent) {
+            if (n == n.mParent.mRight) {
+                index += count(n.mParent.mLeft) + 1;
+            }
+        }
+        return index;
+    }
+
+    void setLength(@NonNull Node node, int length) {
+        int delta = length - node.mLength;
+        node.mLength = length;
+        for (Node n = node; n != null; n = n.mParent) {
+            n.mTotalLength += delta;
+        }
+    }
+
+    /** Inserts a detached sequence of nodes, such as one returned by {@link #remove(int, int)}, at an index. */
+    void insert(int index, @Nullable Node nodes) {
+        split(mRoot, index);
+        Node left = mSplitLeft;
+        Node right = mSplitRight;
+        mRoot = detach(merge(merge(left, nodes), right));
+    }
+
+    /** Removes the nodes in the specified index range, returning them as a detached sequence. */
+    @Nullable
+    Node remove(int fromIndex, int toIndex) {
+        split(mRoot, fromIndex);
+        Node left = mSplitLeft;
+        split(mSplitRight, toIndex - fromIndex);
+        Node removed = mSplitLeft;
+        Node right = mSplitRight;
+        mRoot = detach(merge(left, right));
+        return detach(removed);
+    }
+
+    void clear() {
+        mRoot = null;
+    }
+
+    /** Concatenates two detached sequences. */
+    @Nullable
+    static Node concat(@Nullable Node a, @Nullable Node b) {
+        return detach(merge(a, b));
+    }
+
+    /** Splits the sequence, leaving the first {@code count} nodes in {@link #mSplitLeft} and the rest in the other. */
+    private void split(@Nullable Node node, int count) {
+        if (node == null) {
+            mSplitLeft = null;
+            mSplitRight = null;
+            return;
+        }
+        int leftCount = count(node.mLeft);
+        if (count <= leftCount) {
+            split(node.mLeft, count);
+            node.mLeft = mSplitRight;
+            update(node);
+            mSplitRight = node;
+        } else {
+            split(node.mRight, count - leftCount - 1);
+            node.mRight = mSplitLeft;
+            update(node);
+            mSplitLeft = node;
+        }
+        detach(mSplitLeft);
+        detach(mSplitRight);
+    }
+
+    @Nullable
+    private static Node merge(@Nullable Node a, @Nullable Node b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.mPriority > b.mPriority) {
+            a.mRight = merge(a.mRight, b);
+            update(a);
+            return a;
+        }
+        b.mLeft = merge(a, b.mLeft);
+        update(b);
+        return b;
+    }
+
+    private static void update(@NonNull Node node) {
+        node.mTotalLength = node.mLength + length(node.mLeft) + length(node.mRight);
+        node.mCount = 1 + count(node.mLeft) + count(node.mRight);
+        if (node.mLeft != null) {
+            node.mLeft.mParent = node;
+        }
+        if (node.mRight != null) {
+            node.mRight.mParent = node;
+        }
+    }
+
+    @Nullable
+    private static Node detach(@Nullable Node node) {
+        if (node != null) {
+            node.mParent = null;
+        }
+        return node;
+    }
+
+    private static int length(@Nullable Node node) {
+        return node != null ? node.mTotalLength : 0;
+    }
+
+    private static int count(@Nullable Node node) {
+        return node != null ? node.mCount : 0;
+    }
+
+    static final class Node {
+
+        /** The client object this run of rows belongs to. */
+        @NonNull
+        final Object mOwner;
+
+        /** Position of the first row of this run within its owner. Maintained by the client. */
+        int mStart;
+
+        int mLength;
+
+        private final int mPriority;
+
+        @Nullable
+        private Node mLeft;
+
+        @Nullable
+        private Node mRight;
+
+        @Nullable
+        private Node mParent;
+
+        private int mTotalLength;
+
+        private int mCount;
+
+        Node(@NonNull Object owner, int start, int length, int priority) {
+            mOwner = owner;
+            mStart = start;
+            mLength = length;
+            mPriority = priority;
+            mTotalLength = length;
+            mCount = 1;
+        }
+
+        @Override
+        public String toString() {
+            return "[start: " + mStart + ", length: " + mLength + "]";
+        }
+    }
+}
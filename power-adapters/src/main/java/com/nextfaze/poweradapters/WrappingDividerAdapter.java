@@ -160,6 +160,14 @@ final class WrappingDividerAdapter extends PowerAdapterWrapper {
         return super.getItemId(position);
     }
 
+    @Override
+    public void prefetch(int position) {
+        // Only dividers are present while the wrapped adapter is empty.
+        if (super.getItemCount() > 0) {
+            super.prefetch(position);
+        }
+    }
+
     boolean isLeadingVisible(int innerItemCount) {
         return mLeadingItem != null && mEmptyPolicy.shouldShowLeading(innerItemCount);
     }
@@ -80,6 +80,15 @@ public abstract class Binder<T, V extends View> {
             @NonNull List<Object> payloads
     );
 
+    /**
+     * Hints that the specified object is likely to be bound soon, so expensive preparation for binding can begin ahead
+     * of time. By default, does nothing.
+     * @see PowerAdapter#prefetch(int)
+     * @see PrefetchingBinder
+     */
+    public void prefetch(@NonNull T t, int position) {
+    }
+
     /** @see PowerAdapter#isEnabled(int) */
     public boolean isEnabled(@NonNull T t, int position) {
         return true;
@@ -55,6 +55,11 @@ public abstract class BinderWrapper<T, V extends View> extends Binder<T, V> {
         mBinder.bindView(container, t, v, holder, payloads);
     }
 
+    @Override
+    public void prefetch(@NonNull T t, int position) {
+        mBinder.prefetch(t, position);
+    }
+
     @Override
     public boolean isEnabled(@NonNull T t, int position) {
         return mBinder.isEnabled(t, position);
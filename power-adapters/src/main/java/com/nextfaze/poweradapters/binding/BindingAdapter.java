@@ -47,6 +47,11 @@ public abstract class BindingAdapter<T> extends PowerAdapter {
         mEngine.bindView(container, view, holder, payloads);
     }
 
+    @Override
+    public final void prefetch(int position) {
+        mEngine.prefetch(position);
+    }
+
     @NonNull
     @Override
     public final Object getItemViewType(int position) {
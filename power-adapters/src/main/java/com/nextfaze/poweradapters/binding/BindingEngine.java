@@ -53,6 +53,11 @@ final class BindingEngine<T> {
         binderOrThrow(item, position).bindView(container, item, view, holder, payloads);
     }
 
+    void prefetch(int position) {
+        T item = getItem(position);
+        binderOrThrow(item, position).prefetch(item, position);
+    }
+
     @NonNull
     Object getItemViewType(int position) {
         T item = getItem(position);
@@ -64,6 +64,11 @@ public final class ListBindingAdapter<E> extends ListAdapter<E> {
         mEngine.bindView(container, view, holder, payloads);
     }
 
+    @Override
+    public final void prefetch(int position) {
+        mEngine.prefetch(position);
+    }
+
     @NonNull
     @Override
     public final Object getItemViewType(int position) {
@@ -0,0 +1,132 @@
+package com.nextfaze.poweradapters.binding;
+
+import android.util.LruCache;
+import android.view.View;
+
+import com.nextfaze.poweradapters.Container;
+import com.nextfaze.poweradapters.Holder;
+import com.nextfaze.poweradapters.PowerAdapter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+import androidx.annotation.WorkerThread;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+
+/**
+ * A binder with an expensive preparation stage that doesn't touch views, such as computing a text layout or resolving
+ * an image request. When an item is {@linkplain PowerAdapter#prefetch(int) prefetched}, it's prepared in the background
+ * using the supplied {@link Executor}, and the result is cached so the eventual bind can use it immediately. Items
+ * bound before their preparation completes are prepared synchronously instead.
+ * <p>
+ * Prepared results are cached by item, using {@link Object#equals(Object)} and {@link Object#hashCode()}, so item
+ * objects should be immutable, or at least their equality should reflect everything the preparation depends on.
+ * @param <T> The type of item this binder binds.
+ * @param <V> The type of view this binder binds to.
+ * @param <P> The type of the prepared result.
+ */
+public abstract class PrefetchingBinder<T, V extends View, P> extends Binder<T, V> {
+
+    private static final int DEFAULT_MAX_PREPARED = 32;
+
+    @NonNull
+    private final Executor mExecutor;
+
+    @NonNull
+    private final LruCache<T, P> mPrepared;
+
+    /** Items currently being prepared in the background. */
+    @NonNull
+    private final Set<T> mPreparing = new HashSet<>();
+
+    protected PrefetchingBinder(@NonNull Executor executor) {
+        this(executor, DEFAULT_MAX_PREPARED);
+    }
+
+    /**
+     * @param executor Used to prepare prefetched items.
+     * @param maxPrepared The maximum number of prepared results to retain.
+     */
+    protected PrefetchingBinder(@NonNull Executor executor, int maxPrepared) {
+        mExecutor = checkNotNull(executor, "executor");
+        if (maxPrepared <= 0) {
+            throw new IllegalArgumentException("maxPrepared <= 0");
+        }
+        mPrepared = new LruCache<>(maxPrepared);
+    }
+
+    /**
+     * Performs the preparation stage for the specified item. Invoked on the {@link Executor} when the item is
+     * prefetched, or on the UI thread if it's bound before being prepared, so implementations must not touch views.
+     * @param t The item to prepare.
+     * @return The prepared result, which is passed to {@link #bindView(Container, Object, View, Holder, List, Object)}.
+     */
+    @WorkerThread
+    @NonNull
+    protected abstract P prepare(@NonNull T t);
+
+    /**
+     * Bind the specified object to the specified {@link View}, using the result of the preparation stage.
+     * @param prepared The result of {@link #prepare(Object)} for {@code t}.
+     * @see Binder#bindView(Container, Object, View, Holder, List)
+     */
+    protected abstract void bindView(
+            @NonNull Container container,
+            @NonNull T t,
+            @NonNull V v,
+            @NonNull Holder holder,
+            @NonNull List<Object> payloads,
+            @NonNull P prepared
+    );
+
+    @Override
+    public final void bindView(
+            @NonNull Container container,
+            @NonNull T t,
+            @NonNull V v,
+            @NonNull Holder holder,
+            @NonNull List<Object> payloads
+    ) {
+        P prepared = mPrepared.get(t);
+        if (prepared == null) {
+            prepared = prepare(t);
+            mPrepared.put(t, prepared);
+        }
+        bindView(container, t, v, holder, payloads, prepared);
+    }
+
+    @UiThread
+    @Override
+    public final void prefetch(@NonNull final T t, int position) {
+        if (mPrepared.get(t) != null) {
+            return;
+        }
+        synchronized (mPreparing) {
+            if (!mPreparing.add(t)) {
+                return;
+            }
+        }
+        mExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    mPrepared.put(t, prepare(t));
+                } finally {
+                    synchronized (mPreparing) {
+                        mPreparing.remove(t);
+                    }
+                }
+            }
+        });
+    }
+
+    /** Discards all cached prepared results, for example if the resources they depend on have changed. */
+    public final void clearPrepared() {
+        mPrepared.evictAll();
+    }
+}
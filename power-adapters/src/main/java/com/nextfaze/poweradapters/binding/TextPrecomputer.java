@@ -0,0 +1,201 @@
+package com.nextfaze.poweradapters.binding;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.text.PrecomputedText;
+import android.util.LruCache;
+import android.view.View;
+import android.widget.TextView;
+
+import com.nextfaze.poweradapters.PowerAdapter;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+
+/**
+ * Moves the measurement of long text off the UI thread, for a single text field of the items bound by a {@link Binder}.
+ * When an item is {@linkplain PowerAdapter#prefetch(int) prefetched}, the layout of its text is precomputed on a
+ * background executor, and {@link #setText(TextView, Object)} later applies the precomputed text at bind time, so
+ * {@link TextView#setText(CharSequence)} doesn't need to measure it on the UI thread.
+ * <p>
+ * Text can only be precomputed once the styling of the {@link TextView} is known, which is captured the first time
+ * {@link #setText(TextView, Object)} is called. Precomputed text is cached by item and styling, so items should have
+ * meaningful {@link Object#equals(Object)} and {@link Object#hashCode()} implementations. Precomputation requires API
+ * 28; on earlier versions the text is simply set at bind time.
+ * <p>
+ * Use {@link #wrap(Binder)} to have a binder's items prefetched, which works with any {@link Mapper}:
+ * <pre>{@code
+ * TextPrecomputer<Post> bodies = new TextPrecomputer<>(executor, new TextPrecomputer.TextFunction<Post>() {
+ *     public CharSequence getText(Post post) {
+ *         return post.getBody();
+ *     }
+ * });
+ * Binder<Post, View> binder = bodies.wrap(new PostBinder(bodies));
+ * }</pre>
+ * where {@code PostBinder} calls {@code bodies.setText(bodyTextView, post)} when binding.
+ * @param <T> The type of item whose text is precomputed.
+ */
+public final class TextPrecomputer<T> {
+
+    private static final int DEFAULT_MAX_TEXTS = 32;
+
+    @NonNull
+    private final Executor mExecutor;
+
+    @NonNull
+    private final TextFunction<? super T> mTextFunction;
+
+    @NonNull
+    private final LruCache<Key, CharSequence> mTexts;
+
+    /** Keys of texts currently being precomputed in the background. */
+    @NonNull
+    private final Set<Key> mPrecomputing = new HashSet<>();
+
+    /** The text metrics parameters of the most recently bound {@link TextView}, or {@code null} if unknown. */
+    @Nullable
+    private Object mParams;
+
+    public TextPrecomputer(@NonNull Executor executor, @NonNull TextFunction<? super T> textFunction) {
+        this(executor, textFunction, DEFAULT_MAX_TEXTS);
+    }
+
+    /**
+     * @param executor Used to precompute text.
+     * @param textFunction Supplies the text of each item. Invoked on both {@code executor} and the UI thread.
+     * @param maxTexts The maximum number of precomputed texts to retain.
+     */
+    public TextPrecomputer(@NonNull Executor executor, @NonNull TextFunction<? super T> textFunction, int maxTexts) {
+        mExecutor = checkNotNull(executor, "executor");
+        mTextFunction = checkNotNull(textFunction, "textFunction");
+        if (maxTexts <= 0) {
+            throw new IllegalArgumentException("maxTexts <= 0");
+        }
+        mTexts = new LruCache<>(maxTexts);
+    }
+
+    /**
+     * Sets the text of the specified item to the {@link TextView}, using the precomputed text if available, and
+     * captures the styling of the {@link TextView} so the text of subsequently prefetched items can be precomputed.
+     */
+    @UiThread
+    public void setText(@NonNull TextView textView, @NonNull T t) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.P) {
+            Object params = Api28.getParams(textView);
+            mParams = params;
+            CharSequence text = mTexts.get(new Key(t, params));
+            if (text != null) {
+                textView.setText(text);
+                return;
+            }
+        }
+        textView.setText(mTextFunction.getText(t));
+    }
+
+    /** Begins precomputing the text of the specified item in the background, if it isn't already. */
+    @UiThread
+    public void prefetch(@NonNull T t) {
+        final Object params = mParams;
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.P || params == null) {
+            return;
+        }
+        final Key key = new Key(t, params);
+        if (mTexts.get(key) != null) {
+            return;
+        }
+        synchronized (mPrecomputing) {
+            if (!mPrecomputing.add(key)) {
+                return;
+            }
+        }
+        mExecutor.execute(new Runnable() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public void run() {
+                try {
+                    mTexts.put(key, Api28.precompute(mTextFunction.getText((T) key.mItem), params));
+                } finally {
+                    synchronized (mPrecomputing) {
+                        mPrecomputing.remove(key);
+                    }
+                }
+            }
+        });
+    }
+
+    /** Discards all precomputed texts, for example if the text of the items has changed without them being replaced. */
+    public void clear() {
+        mTexts.evictAll();
+    }
+
+    /** Returns a binder that also precomputes the text of items prefetched from {@code binder}. */
+    @NonNull
+    public <V extends View> Binder<T, V> wrap(@NonNull Binder<T, V> binder) {
+        return new BinderWrapper<T, V>(checkNotNull(binder, "binder")) {
+            @Override
+            public void prefetch(@NonNull T t, int position) {
+                TextPrecomputer.this.prefetch(t);
+                super.prefetch(t, position);
+            }
+        };
+    }
+
+    /** Supplies the text of an item. Invoked on both the background executor and the UI thread. */
+    public interface TextFunction<T> {
+        @NonNull
+        CharSequence getText(@NonNull T t);
+    }
+
+    private static final class Key {
+
+        @NonNull
+        final Object mItem;
+
+        @NonNull
+        final Object mParams;
+
+        Key(@NonNull Object item, @NonNull Object params) {
+            mItem = item;
+            mParams = params;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return mItem.equals(key.mItem) && mParams.equals(key.mParams);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * mItem.hashCode() + mParams.hashCode();
+        }
+    }
+
+    /** Isolates references to API 28 classes, so this class can be loaded on earlier versions. */
+    @TargetApi(Build.VERSION_CODES.P)
+    private static final class Api28 {
+
+        @NonNull
+        static Object getParams(@NonNull TextView textView) {
+            return textView.getTextMetricsParams();
+        }
+
+        @NonNull
+        static CharSequence precompute(@NonNull CharSequence text, @NonNull Object params) {
+            return PrecomputedText.create(text, (PrecomputedText.Params) params);
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package com.nextfaze.poweradapters.internal;
 
+import com.nextfaze.poweradapters.ChangePayloadFunction;
+
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
 
 import static androidx.annotation.RestrictTo.Scope.LIBRARY_GROUP;
 import static com.nextfaze.poweradapters.internal.Preconditions.checkNotNull;
+import static java.lang.Math.max;
 import static java.lang.Math.min;
-import static java.util.Collections.swap;
+import static java.util.Collections.rotate;
+import static java.util.Collections.unmodifiableList;
 
 /** For internal use only. Does not support {@code null} elements. */
 @RestrictTo(LIBRARY_GROUP)
@@ -20,12 +25,19 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
     @NonNull
     private final DataObservable mDataObservable;
 
+    /** Replaced rather than modified while shared with a snapshot. */
     @NonNull
-    private final ArrayList<E> mArray = new ArrayList<>();
+    private ArrayList<E> mArray = new ArrayList<>();
+
+    /** Whether {@link #mArray} has been handed out by {@link #snapshot()}, and so must not be modified. */
+    private boolean mShared;
 
     @NonNull
     private NotificationType mNotificationType = NotificationType.FINE;
 
+    @Nullable
+    private ChangePayloadFunction<? super E> mChangePayloadFunction;
+
     public NotifyingArrayList(@NonNull DataObservable dataObservable) {
         mDataObservable = checkNotNull(dataObservable, "dataObservable");
     }
@@ -42,13 +54,15 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
 
     @Override
     public E set(int index, @NonNull E object) {
+        copyIfShared();
         E e = mArray.set(index, checkNotNull(object, "object"));
-        mNotificationType.notifyItemChanged(mDataObservable, index, null);
+        mNotificationType.notifyItemChanged(mDataObservable, index, changePayload(e, object));
         return e;
     }
 
     @Override
     public boolean add(@NonNull E e) {
+        copyIfShared();
         if (mArray.add(checkNotNull(e, "e"))) {
             mNotificationType.notifyItemInserted(mDataObservable, mArray.size() - 1);
             return true;
@@ -58,6 +72,7 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
 
     @Override
     public void add(int index, @NonNull E object) {
+        copyIfShared();
         mArray.add(index, checkNotNull(object, "object"));
         mNotificationType.notifyItemInserted(mDataObservable, index);
     }
@@ -65,6 +80,7 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
     @Override
     public boolean addAll(@NonNull Collection<? extends E> collection) {
         checkNotNull(collection, "collection");
+        copyIfShared();
         int oldSize = mArray.size();
         mArray.addAll(collection);
         int newSize = mArray.size();
@@ -79,6 +95,7 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
     @Override
     public boolean addAll(int index, @NonNull Collection<? extends E> collection) {
         checkNotNull(collection, "collection");
+        copyIfShared();
         int oldSize = mArray.size();
         mArray.addAll(index, collection);
         int newSize = mArray.size();
@@ -92,6 +109,7 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
 
     @Override
     public E remove(int index) {
+        copyIfShared();
         E removed = mArray.remove(index);
         mNotificationType.notifyItemRemoved(mDataObservable, index);
         return removed;
@@ -102,6 +120,7 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
     public boolean remove(@NonNull Object obj) {
         int index = mArray.indexOf(checkNotNull(obj, "obj"));
         if (index != -1) {
+            copyIfShared();
             mArray.remove(index);
             mNotificationType.notifyItemRemoved(mDataObservable, index);
             return true;
@@ -113,7 +132,7 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
     public void clear() {
         int size = mArray.size();
         if (size > 0) {
-            mArray.clear();
+            clearArray();
             mNotificationType.notifyItemRangeRemoved(mDataObservable, 0, size);
         }
     }
@@ -121,9 +140,10 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
     public void replaceAll(@NonNull List<? extends E> collection) {
         checkNotNull(collection, "collection");
         int oldSize = mArray.size();
+        List<E> oldElements = mChangePayloadFunction != null ? new ArrayList<>(mArray) : null;
 
         // Add all non-null elements
-        mArray.clear();
+        clearArray();
         for (E e : collection) {
             if (e != null) {
                 mArray.add(e);
@@ -140,20 +160,89 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
         }
 
         // Finally, issue a change notification for the range of elements not accounted for above.
-        mNotificationType.notifyItemRangeChanged(mDataObservable, 0, min(oldSize, mArray.size()), null);
+        notifyItemRangeChanged(0, min(oldSize, mArray.size()), oldElements);
+    }
+
+    /**
+     * Like {@link #replaceAll(List)}, but elements at the start and end that are equal to the existing ones are left
+     * untouched, and only the elements in between that differ are notified as changed.
+     */
+    public void replaceAllWithDiff(@NonNull List<? extends E> collection) {
+        checkNotNull(collection, "collection");
+        ArrayList<E> newArray = new ArrayList<>(collection.size());
+        for (E e : collection) {
+            if (e != null) {
+                newArray.add(e);
+            }
+        }
+        int oldSize = mArray.size();
+        int newSize = newArray.size();
+
+        // Skip the common prefix and suffix.
+        int prefix = 0;
+        int maxPrefix = min(oldSize, newSize);
+        while (prefix < maxPrefix && mArray.get(prefix).equals(newArray.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && mArray.get(oldSize - 1 - suffix).equals(newArray.get(newSize - 1 - suffix))) {
+            suffix++;
+        }
+        int oldMiddle = oldSize - prefix - suffix;
+        int newMiddle = newSize - prefix - suffix;
+        int common = min(oldMiddle, newMiddle);
+
+        // Determine which of the overlapping middle elements actually differ before replacing them.
+        boolean[] changed = new boolean[common];
+        for (int i = 0; i < common; i++) {
+            changed[i] = !mArray.get(prefix + i).equals(newArray.get(prefix + i));
+        }
+        List<E> oldElements = null;
+        if (mChangePayloadFunction != null) {
+            oldElements = new ArrayList<>(mArray.subList(prefix, prefix + common));
+        }
+        mArray = newArray;
+        mShared = false;
+
+        // Structural notifications first, at the end of the middle range, so the changed range isn't shifted.
+        if (newMiddle < oldMiddle) {
+            mNotificationType.notifyItemRangeRemoved(mDataObservable, prefix + common, oldMiddle - common);
+        } else if (newMiddle > oldMiddle) {
+            mNotificationType.notifyItemRangeInserted(mDataObservable, prefix + common, newMiddle - common);
+        }
+        int i = 0;
+        while (i < common) {
+            if (changed[i]) {
+                int start = i;
+                while (i < common && changed[i]) {
+                    i++;
+                }
+                List<E> oldRun = oldElements != null ? oldElements.subList(start, i) : null;
+                notifyItemRangeChanged(prefix + start, i - start, oldRun);
+            } else {
+                i++;
+            }
+        }
     }
 
     public void setAll(int index, @NonNull Collection<? extends E> collection) {
         checkNotNull(collection, "collection");
+        List<E> oldElements = null;
+        if (mChangePayloadFunction != null) {
+            oldElements = new ArrayList<>(mArray.subList(index, index + collection.size()));
+        }
+        copyIfShared();
         int i = 0;
         for (E e : collection) {
             mArray.set(index + i, e);
             i++;
         }
-        mNotificationType.notifyItemRangeChanged(mDataObservable, index, collection.size(), null);
+        notifyItemRangeChanged(index, collection.size(), oldElements);
     }
 
     public void remove(int index, int count) {
+        copyIfShared();
         for (int i = 0; i < count; i++) {
             mArray.remove(index);
         }
@@ -164,30 +253,34 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
         if (itemCount <= 0) {
             throw new IllegalArgumentException("count <= 0");
         }
-        if (fromPosition < toPosition) {
-            for (int j = itemCount - 1; j >= 0; j--) {
-                for (int i = fromPosition + j; i < toPosition + j; i++) {
-                    swap(mArray, i, i + 1);
-                }
-            }
-        } else {
-            for (int j = 0; j < itemCount; j++) {
-                for (int i = fromPosition + j; i > toPosition + j; i--) {
-                    swap(mArray, i, i - 1);
-                }
-            }
-        }
+        // Rotating the span covering both ranges moves the block in a single pass, rather than one swap per step.
+        int start = min(fromPosition, toPosition);
+        int end = max(fromPosition, toPosition) + itemCount;
+        copyIfShared();
+        rotate(mArray.subList(start, end), toPosition - fromPosition);
         mNotificationType.notifyItemRangeMoved(mDataObservable, fromPosition, toPosition, itemCount);
     }
 
     public void trimToSize() {
+        copyIfShared();
         mArray.trimToSize();
     }
 
     public void ensureCapacity(int minimumCapacity) {
+        copyIfShared();
         mArray.ensureCapacity(minimumCapacity);
     }
 
+    /**
+     * Returns an immutable list of the current elements, which may be read from any thread. Taking a snapshot doesn't
+     * copy the elements; instead, the next modification of this list copies them first, leaving the snapshot intact.
+     */
+    @NonNull
+    public List<E> snapshot() {
+        mShared = true;
+        return unmodifiableList(mArray);
+    }
+
     @NonNull
     public NotificationType getNotificationType() {
         return mNotificationType;
@@ -196,4 +289,67 @@ public final class NotifyingArrayList<E> extends AbstractList<E> {
     public void setNotificationType(@NonNull NotificationType notificationType) {
         mNotificationType = checkNotNull(notificationType, "notificationType");
     }
+
+    @Nullable
+    public ChangePayloadFunction<? super E> getChangePayloadFunction() {
+        return mChangePayloadFunction;
+    }
+
+    /** Sets the function used to compute the payload of change notifications. If {@code null}, no payload is used. */
+    public void setChangePayloadFunction(@Nullable ChangePayloadFunction<? super E> changePayloadFunction) {
+        mChangePayloadFunction = changePayloadFunction;
+    }
+
+    /** Copies the elements before they're modified, if they're shared with a snapshot. */
+    private void copyIfShared() {
+        if (mShared) {
+            mArray = new ArrayList<>(mArray);
+            mShared = false;
+        }
+    }
+
+    /** Removes all elements, leaving them intact if they're shared with a snapshot. */
+    private void clearArray() {
+        if (mShared) {
+            mArray = new ArrayList<>();
+            mShared = false;
+        } else {
+            mArray.clear();
+        }
+    }
+
+    @Nullable
+    private Object changePayload(@NonNull E oldElement, @NonNull E newElement) {
+        return mChangePayloadFunction != null ? mChangePayloadFunction.getChangePayload(oldElement, newElement) : null;
+    }
+
+    /**
+     * Notifies of a change to a range of elements. If {@code oldElements} is non-null, it contains the elements of the
+     * range prior to the change, and the range is split into runs of consecutive elements that share the same change
+     * payload.
+     */
+    private void notifyItemRangeChanged(int positionStart, int itemCount, @Nullable List<E> oldElements) {
+        if (oldElements == null) {
+            mNotificationType.notifyItemRangeChanged(mDataObservable, positionStart, itemCount, null);
+            return;
+        }
+        int runStart = positionStart;
+        Object runPayload = null;
+        for (int position = positionStart; position < positionStart + itemCount; position++) {
+            Object payload = changePayload(oldElements.get(position - positionStart), mArray.get(position));
+            if (position > runStart && !equal(payload, runPayload)) {
+                mNotificationType.notifyItemRangeChanged(mDataObservable, runStart, position - runStart, runPayload);
+                runStart = position;
+            }
+            runPayload = payload;
+        }
+        if (itemCount > 0) {
+            mNotificationType.notifyItemRangeChanged(mDataObservable, runStart, positionStart + itemCount - runStart,
+                    runPayload);
+        }
+    }
+
+    private static boolean equal(@Nullable Object a, @Nullable Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
 }
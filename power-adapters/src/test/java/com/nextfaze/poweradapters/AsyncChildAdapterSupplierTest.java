@@ -0,0 +1,163 @@
+package com.nextfaze.poweradapters;
+
+import com.nextfaze.poweradapters.AsyncChildAdapterSupplier.Callback;
+import com.nextfaze.poweradapters.AsyncChildAdapterSupplier.Loader;
+import com.nextfaze.poweradapters.AsyncChildAdapterSupplier.Task;
+import com.nextfaze.poweradapters.test.FakeAdapter;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@RunWith(RobolectricTestRunner.class)
+public final class AsyncChildAdapterSupplierTest {
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    private final List<FakeTask> mTasks = new ArrayList<>();
+
+    private FakeAdapter mRootAdapter;
+    private AsyncChildAdapterSupplier mSupplier;
+    private TreeAdapter mTreeAdapter;
+    private VerifyingAdapterObserver mVerifyingObserver;
+
+    @Before
+    public void setUp() throws Exception {
+        mRootAdapter = new FakeAdapter(3);
+        mSupplier = new AsyncChildAdapterSupplier(new Loader() {
+            @NonNull
+            @Override
+            public Task newTask(int position) {
+                FakeTask task = new FakeTask();
+                mTasks.add(task);
+                return task;
+            }
+        }, new FakeAdapter(1), 2);
+        mTreeAdapter = new TreeAdapter(mRootAdapter, mSupplier);
+        mVerifyingObserver = new VerifyingAdapterObserver(mTreeAdapter);
+        mTreeAdapter.registerDataObserver(mVerifyingObserver);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        mVerifyingObserver.assertItemCountConsistent();
+    }
+
+    @Test
+    public void placeholderPresentedWhileLoading() {
+        mTreeAdapter.setExpanded(0, true);
+        assertThat(mTreeAdapter.getItemCount()).isEqualTo(4);
+        assertThat(mTasks.get(0).mCallback).isNotNull();
+    }
+
+    @Test
+    public void placeholderReplacedWhenLoaded() {
+        mTreeAdapter.setExpanded(0, true);
+        DataObserver observer = registerMockDataObserver();
+        mTasks.get(0).complete(new FakeAdapter(3));
+        InOrder inOrder = inOrder(observer);
+        inOrder.verify(observer).onItemRangeRemoved(1, 1);
+        inOrder.verify(observer).onItemRangeInserted(1, 3);
+        verifyNoMoreInteractions(observer);
+        assertThat(mTreeAdapter.getItemCount()).isEqualTo(6);
+    }
+
+    @Test
+    public void concurrentLoadsAreBounded() {
+        mTreeAdapter.setAllExpanded(true);
+        assertThat(mSupplier.getActiveLoadCount()).isEqualTo(2);
+        assertThat(mSupplier.getQueuedLoadCount()).isEqualTo(1);
+        assertThat(mTasks.get(2).mCallback).isNull();
+        mTasks.get(0).complete(new FakeAdapter(2));
+        assertThat(mSupplier.getActiveLoadCount()).isEqualTo(2);
+        assertThat(mSupplier.getQueuedLoadCount()).isEqualTo(0);
+        assertThat(mTasks.get(2).mCallback).isNotNull();
+    }
+
+    @Test
+    public void collapseCancelsLoad() {
+        mTreeAdapter.setExpanded(0, true);
+        FakeTask task = mTasks.get(0);
+        mTreeAdapter.setExpanded(0, false);
+        assertThat(task.mCancelled).isTrue();
+        assertThat(mSupplier.getActiveLoadCount()).isEqualTo(0);
+        DataObserver observer = registerMockDataObserver();
+        task.complete(new FakeAdapter(3));
+        verifyNoMoreInteractions(observer);
+        assertThat(mTreeAdapter.getItemCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void collapseDequeuesPendingLoad() {
+        mTreeAdapter.setAllExpanded(true);
+        mTreeAdapter.setExpanded(2, false);
+        assertThat(mSupplier.getQueuedLoadCount()).isEqualTo(0);
+        mTasks.get(0).complete(new FakeAdapter(2));
+        assertThat(mTasks.get(2).mCallback).isNull();
+        assertThat(mSupplier.getActiveLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void synchronousTasksAreSupported() {
+        TreeAdapter treeAdapter = new TreeAdapter(new FakeAdapter(100), new AsyncChildAdapterSupplier(new Loader() {
+            @NonNull
+            @Override
+            public Task newTask(int position) {
+                return new FakeTask() {
+                    @Override
+                    public void start(@NonNull Callback callback) {
+                        callback.onLoaded(new FakeAdapter(2));
+                    }
+                };
+            }
+        }, PowerAdapter.EMPTY, 1));
+        treeAdapter.registerDataObserver(mock(DataObserver.class));
+        treeAdapter.setAllExpanded(true);
+        assertThat(treeAdapter.getItemCount()).isEqualTo(300);
+    }
+
+    @NonNull
+    private DataObserver registerMockDataObserver() {
+        DataObserver observer = mock(DataObserver.class);
+        mTreeAdapter.registerDataObserver(observer);
+        return observer;
+    }
+
+    private static class FakeTask implements Task {
+
+        Callback mCallback;
+
+        boolean mCancelled;
+
+        @Override
+        public void start(@NonNull Callback callback) {
+            mCallback = callback;
+        }
+
+        @Override
+        public void cancel() {
+            mCancelled = true;
+        }
+
+        void complete(@NonNull PowerAdapter adapter) {
+            mCallback.onLoaded(adapter);
+        }
+    }
+}
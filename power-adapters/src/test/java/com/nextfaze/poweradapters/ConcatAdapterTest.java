@@ -19,6 +19,7 @@ import org.mockito.junit.MockitoRule;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.RuntimeEnvironment;
 
+import java.util.Collections;
 import java.util.List;
 
 import androidx.annotation.NonNull;
@@ -370,6 +371,40 @@ public final class ConcatAdapterTest {
         assertThat(innerContainer.getViewGroup()).isEqualTo(mContainerViewGroup);
     }
 
+    @Test
+    public void collidingChildIdsAreNotStableByDefault() {
+        PowerAdapter adapter = concat(fakeLongAdapter(1L, 2L), fakeLongAdapter(1L, 2L));
+        assertThat(adapter.hasStableIds()).isFalse();
+    }
+
+    @Test
+    public void namespacedIdsAreStableAndUnique() {
+        PowerAdapter adapter = new ConcatAdapterBuilder()
+                .add(fakeLongAdapter(1L, 2L))
+                .add(fakeLongAdapter(1L, 2L))
+                .add(fakeLongAdapter(1L))
+                .namespaceIds(true)
+                .build();
+        adapter.registerDataObserver(mObserver);
+        assertThat(adapter.hasStableIds()).isTrue();
+        List<Long> itemIds = newArrayList();
+        for (int i = 0; i < adapter.getItemCount(); i++) {
+            itemIds.add(adapter.getItemId(i));
+        }
+        assertThat(itemIds).containsNoDuplicates();
+        assertThat(itemIds).doesNotContain(PowerAdapter.NO_ID);
+    }
+
+    @Test
+    public void namespacedIdsAreNotStableIfAnyChildIsNotStable() {
+        PowerAdapter adapter = new ConcatAdapterBuilder()
+                .add(fakeLongAdapter(1L))
+                .add(new FakeAdapter(1))
+                .namespaceIds(true)
+                .build();
+        assertThat(adapter.hasStableIds()).isFalse();
+    }
+
     @NonNull
     private Container bindViewAndReturnInnerContainer(int concatAdapterPosition,
                                                       @NonNull PowerAdapter adapter,
@@ -387,6 +422,13 @@ public final class ConcatAdapterTest {
         return observer;
     }
 
+    @NonNull
+    private static FakeLongAdapter fakeLongAdapter(@NonNull Long... itemIds) {
+        FakeLongAdapter adapter = new FakeLongAdapter();
+        Collections.addAll(adapter, itemIds);
+        return adapter;
+    }
+
     @NonNull
     private static PowerAdapter concat(@NonNull PowerAdapter... adapters) {
         return new ConcatAdapterBuilder().addAll(adapters).build();
@@ -79,4 +79,20 @@ public final class ConditionTest {
         mCondition.unregisterObserver(observer2);
         verify(mCondition).onLastObserverUnregistered();
     }
+
+    @Test
+    public void compoundConditionNotifiesOnlyWhenResultChanges() {
+        ValueCondition a = new ValueCondition();
+        ValueCondition b = new ValueCondition();
+        Condition condition = a.or(b);
+        Observer observer = mock(Observer.class);
+        condition.registerObserver(observer);
+        a.set(true);
+        verify(observer).onChanged();
+        b.set(true);
+        a.set(false);
+        verifyNoMoreInteractions(observer);
+        b.set(false);
+        verify(observer, times(2)).onChanged();
+    }
 }
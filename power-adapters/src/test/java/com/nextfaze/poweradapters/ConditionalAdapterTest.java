@@ -13,6 +13,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.robolectric.Robolectric;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.RuntimeEnvironment;
 
@@ -23,6 +24,7 @@ import static com.nextfaze.poweradapters.AdapterTestUtils.holder;
 import static com.nextfaze.poweradapters.ArgumentMatchers.holderWithPosition;
 import static com.nextfaze.poweradapters.Condition.always;
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
@@ -67,6 +69,18 @@ public final class ConditionalAdapterTest {
         mConditionalAdapter.registerDataObserver(mObserver);
     }
 
+    private void setDebouncedCondition(@NonNull Condition condition) {
+        mFakeAdapter = spy(new FakeAdapter(10));
+        mConditionalAdapter = new ConditionalAdapter(mFakeAdapter, condition, 100);
+        mVerifyingObserver = new VerifyingAdapterObserver(mConditionalAdapter);
+        mConditionalAdapter.registerDataObserver(mVerifyingObserver);
+        mConditionalAdapter.registerDataObserver(mObserver);
+    }
+
+    private static void advanceMainLooperBy(long millis) {
+        Robolectric.getForegroundThreadScheduler().advanceBy(millis, MILLISECONDS);
+    }
+
     private void assertItemCountConsistent() {
         mVerifyingObserver.assertItemCountConsistent();
     }
@@ -158,6 +172,31 @@ public final class ConditionalAdapterTest {
         assertItemCountConsistent();
     }
 
+    @Test
+    public void debouncedParentIgnoresConditionFlipThatDoesNotLast() {
+        ValueCondition condition = new ValueCondition(true);
+        setDebouncedCondition(condition);
+        condition.set(false);
+        advanceMainLooperBy(50);
+        condition.set(true);
+        advanceMainLooperBy(100);
+        verifyZeroInteractions(mObserver);
+        assertItemCountConsistent();
+    }
+
+    @Test
+    public void debouncedParentIssuesRemovalOnceConditionSettles() {
+        ValueCondition condition = new ValueCondition(true);
+        setDebouncedCondition(condition);
+        condition.set(false);
+        advanceMainLooperBy(50);
+        verifyZeroInteractions(mObserver);
+        advanceMainLooperBy(50);
+        verify(mObserver).onItemRangeRemoved(0, 10);
+        verifyNoMoreInteractions(mObserver);
+        assertItemCountConsistent();
+    }
+
     @Test
     public void parentDelegatesNewViewToChildWhileConditionIsTrue() {
         setCondition(always());
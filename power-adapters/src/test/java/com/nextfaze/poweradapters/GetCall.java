@@ -20,6 +20,12 @@ enum GetCall {
         void get(@NonNull PowerAdapter adapter, int position) {
             adapter.isEnabled(position);
         }
+    },
+    PREFETCH {
+        @Override
+        void get(@NonNull PowerAdapter adapter, int position) {
+            adapter.prefetch(position);
+        }
     };
 
     abstract void get(@NonNull PowerAdapter adapter, int position);
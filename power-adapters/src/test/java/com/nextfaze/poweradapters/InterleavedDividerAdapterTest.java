@@ -0,0 +1,194 @@
+package com.nextfaze.poweradapters;
+
+import com.nextfaze.poweradapters.test.FakeAdapter;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.DividerAdapterBuilder.EmptyPolicy.SHOW_LEADING;
+import static com.nextfaze.poweradapters.DividerAdapterBuilder.EmptyPolicy.SHOW_NOTHING;
+import static com.nextfaze.poweradapters.DividerAdapterBuilder.Mode.INTERLEAVE;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@RunWith(RobolectricTestRunner.class)
+public final class InterleavedDividerAdapterTest {
+
+    @LayoutRes
+    private static final int RESOURCE = 0;
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    @Mock
+    private DataObserver mObserver;
+
+    private FakeAdapter mFakeAdapter;
+    private PowerAdapter mDividerAdapter;
+
+    @Nullable
+    private VerifyingAdapterObserver mVerifyingObserver;
+
+    @After
+    public void tearDown() throws Exception {
+        if (mVerifyingObserver != null) {
+            mVerifyingObserver.assertItemCountConsistent();
+        }
+    }
+
+    private void configure(int count) {
+        configure(count, SHOW_NOTHING);
+    }
+
+    private void configure(int count, @NonNull DividerAdapterBuilder.EmptyPolicy emptyPolicy) {
+        mFakeAdapter = new FakeAdapter(count);
+        mDividerAdapter = new DividerAdapterBuilder()
+                .innerResource(RESOURCE)
+                .outerResource(RESOURCE)
+                .emptyPolicy(emptyPolicy)
+                .mode(INTERLEAVE)
+                .build(mFakeAdapter);
+        mVerifyingObserver = new VerifyingAdapterObserver(mDividerAdapter);
+        mDividerAdapter.registerDataObserver(mVerifyingObserver);
+        mDividerAdapter.registerDataObserver(mObserver);
+    }
+
+    @Test
+    public void itemCountIncludesDividers() {
+        configure(5);
+        assertThat(mDividerAdapter.getItemCount()).isEqualTo(11);
+    }
+
+    @Test
+    public void itemCountZeroShowLeading() {
+        configure(0, SHOW_LEADING);
+        assertThat(mDividerAdapter.getItemCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void dividersAreDisabledAndHaveNoIds() {
+        configure(3);
+        for (int position = 0; position < mDividerAdapter.getItemCount(); position += 2) {
+            assertThat(mDividerAdapter.isEnabled(position)).isFalse();
+            assertThat(mDividerAdapter.getItemId(position)).isEqualTo(PowerAdapter.NO_ID);
+        }
+        for (int position = 1; position < mDividerAdapter.getItemCount(); position += 2) {
+            assertThat(mDividerAdapter.isEnabled(position)).isTrue();
+        }
+    }
+
+    @Test
+    public void insertFromNonEmptyToMidRange() {
+        configure(10);
+        mFakeAdapter.insert(5, 5);
+        assertThat(mDividerAdapter.getItemCount()).isEqualTo(31);
+        verify(mObserver).onItemRangeInserted(10, 10);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void insertFromNonEmptyToStartRange() {
+        configure(10);
+        mFakeAdapter.insert(0, 5);
+        verify(mObserver).onItemRangeInserted(1, 10);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void insertFromEmptyShowLeading() {
+        configure(0, SHOW_LEADING);
+        mFakeAdapter.insert(0, 5);
+        assertThat(mDividerAdapter.getItemCount()).isEqualTo(11);
+        verify(mObserver).onItemRangeInserted(1, 9);
+        verify(mObserver).onItemRangeInserted(10, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeToNonEmptyFromEndRange() {
+        configure(15);
+        mFakeAdapter.remove(10, 5);
+        assertThat(mDividerAdapter.getItemCount()).isEqualTo(21);
+        verify(mObserver).onItemRangeRemoved(20, 10);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void removeToEmptyShowNothing() {
+        configure(5);
+        mFakeAdapter.clear();
+        assertThat(mDividerAdapter.getItemCount()).isEqualTo(0);
+        verify(mObserver).onItemRangeRemoved(1, 9);
+        verify(mObserver, times(2)).onItemRangeRemoved(0, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void changeIsTranslated() {
+        configure(5);
+        mFakeAdapter.change(1, 2, null);
+        verify(mObserver).onItemRangeChanged(3, 1, null);
+        verify(mObserver).onItemRangeChanged(5, 1, null);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void stableIdsAreUniqueAcrossItemsAndDividers() {
+        FakeLongAdapter longAdapter = new FakeLongAdapter();
+        Collections.addAll(longAdapter, 0L, 1L, 2L, 3L);
+        PowerAdapter dividerAdapter = new DividerAdapterBuilder()
+                .innerResource(RESOURCE)
+                .outerResource(RESOURCE)
+                .mode(INTERLEAVE)
+                .build(longAdapter);
+        dividerAdapter.registerDataObserver(mObserver);
+        assertThat(dividerAdapter.hasStableIds()).isTrue();
+        List<Long> itemIds = new ArrayList<>();
+        for (int position = 0; position < dividerAdapter.getItemCount(); position++) {
+            itemIds.add(dividerAdapter.getItemId(position));
+        }
+        assertThat(itemIds).hasSize(9);
+        assertThat(itemIds).containsNoDuplicates();
+        assertThat(itemIds).doesNotContain(PowerAdapter.NO_ID);
+    }
+
+    @Test
+    public void stableIdsOfItemAndItsDividerSurviveRemovalOfPrecedingItem() {
+        FakeLongAdapter longAdapter = new FakeLongAdapter();
+        Collections.addAll(longAdapter, 0L, 1L, 2L, 3L);
+        PowerAdapter dividerAdapter = new DividerAdapterBuilder()
+                .innerResource(RESOURCE)
+                .mode(INTERLEAVE)
+                .build(longAdapter);
+        dividerAdapter.registerDataObserver(mObserver);
+        long dividerId = dividerAdapter.getItemId(3);
+        long itemId = dividerAdapter.getItemId(4);
+        longAdapter.remove(1);
+        assertThat(dividerAdapter.getItemId(1)).isEqualTo(dividerId);
+        assertThat(dividerAdapter.getItemId(2)).isEqualTo(itemId);
+    }
+
+    @Test
+    public void moveIsTranslatedToUnits() {
+        configure(5);
+        mFakeAdapter.move(1, 3, 2);
+        verify(mObserver).onItemRangeMoved(2, 6, 4);
+        verifyNoMoreInteractions(mObserver);
+    }
+}
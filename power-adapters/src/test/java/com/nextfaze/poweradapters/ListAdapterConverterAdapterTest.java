@@ -0,0 +1,139 @@
+package com.nextfaze.poweradapters;
+
+import android.database.DataSetObserver;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import com.nextfaze.poweradapters.test.FakeAdapter;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.nextfaze.poweradapters.AdapterTestUtils.verifyBindViewNeverCalled;
+import static com.nextfaze.poweradapters.ArgumentMatchers.holderWithPosition;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public final class ListAdapterConverterAdapterTest {
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    @Mock
+    private DataSetObserver mObserver;
+
+    private FakeAdapter mFakeAdapter;
+    private ListAdapterConverterAdapter mConverterAdapter;
+    private FrameLayout mParent;
+
+    @Before
+    public void setUp() throws Exception {
+        ShadowLooper.pauseMainLooper();
+        mFakeAdapter = spy(new FakeAdapter(10));
+        mConverterAdapter = new ListAdapterConverterAdapter(mFakeAdapter, 1);
+        mConverterAdapter.registerDataSetObserver(mObserver);
+        mParent = new FrameLayout(RuntimeEnvironment.application);
+        // Positions 0 to 4 are visible.
+        for (int position = 0; position < 5; position++) {
+            mParent.addView(mConverterAdapter.getView(position, null, mParent));
+        }
+        clearInvocations(mFakeAdapter);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        ShadowLooper.unPauseMainLooper();
+    }
+
+    @Test
+    public void changeRebindsOnlyAffectedVisibleViews() {
+        mFakeAdapter.change(2, 2, "a");
+        ShadowLooper.runUiThreadTasks();
+        verifyBoundWithPayloads(2, singletonList((Object) "a"));
+        verifyBoundWithPayloads(3, singletonList((Object) "a"));
+        verifyNotBound(1);
+        verifyNotBound(4);
+        verify(mObserver, never()).onChanged();
+    }
+
+    @Test
+    public void changeOfInvisibleItemsDoesNotRebind() {
+        mFakeAdapter.change(6, 3, null);
+        ShadowLooper.runUiThreadTasks();
+        verifyBindViewNeverCalled(mFakeAdapter);
+        verify(mObserver, never()).onChanged();
+    }
+
+    @Test
+    public void changesBeforeRebindMergePayloads() {
+        mFakeAdapter.change(2, 1, "a");
+        mFakeAdapter.change(2, 2, "b");
+        ShadowLooper.runUiThreadTasks();
+        verifyBoundWithPayloads(2, Arrays.<Object>asList("a", "b"));
+        verifyBoundWithPayloads(3, singletonList((Object) "b"));
+    }
+
+    @Test
+    public void changeWithoutPayloadRebindsFully() {
+        mFakeAdapter.change(2, 1, "a");
+        mFakeAdapter.change(2, 1, null);
+        ShadowLooper.runUiThreadTasks();
+        verifyBoundWithPayloads(2, emptyList());
+    }
+
+    @Test
+    public void viewTypeChangeFallsBackToNotifyDataSetChanged() {
+        doReturn(new Object()).when(mFakeAdapter).getItemViewType(2);
+        mFakeAdapter.change(2, 1, null);
+        ShadowLooper.runUiThreadTasks();
+        verify(mObserver).onChanged();
+    }
+
+    @Test
+    public void structuralChangeFallsBackToNotifyDataSetChanged() {
+        mFakeAdapter.insert(0, 1);
+        ShadowLooper.runUiThreadTasks();
+        verify(mObserver).onChanged();
+    }
+
+    @Test
+    public void structuralChangeDiscardsPendingChanges() {
+        mFakeAdapter.change(2, 1, "a");
+        mFakeAdapter.remove(0, 1);
+        ShadowLooper.runUiThreadTasks();
+        verify(mObserver).onChanged();
+        verifyBindViewNeverCalled(mFakeAdapter);
+    }
+
+    private void verifyBoundWithPayloads(int position, List<Object> payloads) {
+        verify(mFakeAdapter).bindView(any(Container.class), any(View.class), argThat(holderWithPosition(position)),
+                eq(payloads));
+    }
+
+    private void verifyNotBound(int position) {
+        verify(mFakeAdapter, never()).bindView(any(Container.class), any(View.class),
+                argThat(holderWithPosition(position)), anyList());
+    }
+}
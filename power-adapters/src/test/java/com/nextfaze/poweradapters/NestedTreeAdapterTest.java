@@ -0,0 +1,230 @@
+package com.nextfaze.poweradapters;
+
+import android.view.View;
+
+import com.nextfaze.poweradapters.NestedTreeAdapter.ChildSupplier;
+import com.nextfaze.poweradapters.NestedTreeAdapter.Children;
+import com.nextfaze.poweradapters.test.FakeAdapter;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.truth.Truth.assertThat;
+import static com.nextfaze.poweradapters.AdapterTestUtils.holder;
+import static java.util.Collections.emptyList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@RunWith(RobolectricTestRunner.class)
+public final class NestedTreeAdapterTest {
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    @Mock
+    private Container mContainer;
+
+    private FakeAdapter mRootAdapter;
+    private List<FakeAdapter> mChildAdapters;
+    private List<FakeAdapter> mGrandchildAdapters;
+    private ChildSupplier mChildSupplier;
+    private NestedTreeAdapter mTreeAdapter;
+    private VerifyingAdapterObserver mVerifyingObserver;
+
+    @Before
+    public void setUp() throws Exception {
+        mRootAdapter = new FakeAdapter(3);
+        mChildAdapters = newArrayList(
+                spy(new FakeAdapter(2)),
+                spy(new FakeAdapter(2)),
+                spy(new FakeAdapter(2))
+        );
+        mGrandchildAdapters = newArrayList(
+                spy(new FakeAdapter(2)),
+                spy(new FakeAdapter(2))
+        );
+        final ChildSupplier childSupplier = new ChildSupplier() {
+            @Nullable
+            @Override
+            public Children get(int position) {
+                return new Children(mGrandchildAdapters.get(position));
+            }
+        };
+        mChildSupplier = new ChildSupplier() {
+            @Nullable
+            @Override
+            public Children get(int position) {
+                return new Children(mChildAdapters.get(position), childSupplier);
+            }
+        };
+        mTreeAdapter = new NestedTreeAdapter(mRootAdapter, mChildSupplier);
+        mVerifyingObserver = new VerifyingAdapterObserver(mTreeAdapter);
+        mTreeAdapter.registerDataObserver(mVerifyingObserver);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        mVerifyingObserver.assertItemCountConsistent();
+    }
+
+    @Test
+    public void itemCountIncludesRootOnlyWhenNotExpanded() {
+        assertThat(mTreeAdapter.getItemCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void expandInsertsChildItems() {
+        DataObserver observer = registerMockDataObserver();
+        mTreeAdapter.setExpanded(1, true);
+        verify(observer).onItemRangeInserted(2, 2);
+        verifyNoMoreInteractions(observer);
+        assertThat(mTreeAdapter.getItemCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void nestedExpandInsertsGrandchildItems() {
+        mTreeAdapter.setExpanded(0, true);
+        DataObserver observer = registerMockDataObserver();
+        mTreeAdapter.setExpanded(2, true);
+        verify(observer).onItemRangeInserted(3, 2);
+        verifyNoMoreInteractions(observer);
+        assertThat(mTreeAdapter.isExpanded(2)).isTrue();
+        assertThat(mTreeAdapter.getDepth(0)).isEqualTo(0);
+        assertThat(mTreeAdapter.getDepth(2)).isEqualTo(1);
+        assertThat(mTreeAdapter.getDepth(3)).isEqualTo(2);
+        assertThat(mTreeAdapter.getDepth(5)).isEqualTo(0);
+    }
+
+    @Test
+    public void leafItemsCannotBeExpanded() {
+        mTreeAdapter.setExpanded(0, true);
+        mTreeAdapter.setExpanded(1, true);
+        assertThat(mTreeAdapter.toggleExpanded(2)).isFalse();
+        assertThat(mTreeAdapter.getItemCount()).isEqualTo(7);
+    }
+
+    @Test
+    public void collapseRemovesAllDescendants() {
+        mTreeAdapter.setExpanded(0, true);
+        mTreeAdapter.setExpanded(1, true);
+        DataObserver observer = registerMockDataObserver();
+        mTreeAdapter.setExpanded(0, false);
+        verify(observer).onItemRangeRemoved(1, 4);
+        verifyNoMoreInteractions(observer);
+    }
+
+    @Test
+    public void grandchildInsertionIsTranslated() {
+        mTreeAdapter.setExpanded(0, true);
+        mTreeAdapter.setExpanded(1, true);
+        DataObserver observer = registerMockDataObserver();
+        mGrandchildAdapters.get(0).append(1);
+        verify(observer).onItemRangeInserted(4, 1);
+        verifyNoMoreInteractions(observer);
+    }
+
+    @Test
+    public void rootRemovalRemovesExpandedDescendants() {
+        mTreeAdapter.setExpanded(0, true);
+        mTreeAdapter.setExpanded(1, true);
+        DataObserver observer = registerMockDataObserver();
+        mRootAdapter.remove(0, 1);
+        verify(observer).onItemRangeRemoved(0, 5);
+        verifyNoMoreInteractions(observer);
+        assertThat(mTreeAdapter.getItemCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void rootMoveCarriesExpandedDescendants() {
+        mTreeAdapter.setExpanded(0, true);
+        DataObserver observer = registerMockDataObserver();
+        mRootAdapter.move(0, 2, 1);
+        verify(observer).onItemRangeMoved(0, 2, 3);
+        verifyNoMoreInteractions(observer);
+        assertThat(mTreeAdapter.isExpanded(2)).isTrue();
+        assertThat(mTreeAdapter.getDepth(3)).isEqualTo(1);
+        assertThat(mTreeAdapter.getDepth(4)).isEqualTo(1);
+    }
+
+    @Test
+    public void payloadChangeOfExpandedItemKeepsExpandedGrandchildren() {
+        mTreeAdapter.setExpanded(0, true);
+        mTreeAdapter.setExpanded(1, true);
+        // Any re-supplied children would replace the expanded ones.
+        mChildAdapters.set(0, spy(new FakeAdapter(2)));
+        DataObserver observer = registerMockDataObserver();
+        mRootAdapter.change(0, 1, "a");
+        verify(observer).onItemRangeChanged(0, 1, "a");
+        verifyNoMoreInteractions(observer);
+        assertThat(mTreeAdapter.isExpanded(1)).isTrue();
+        assertThat(mTreeAdapter.getItemCount()).isEqualTo(7);
+    }
+
+    @Test
+    public void changeOfExpandedItemWithSameChildAdapterKeepsExpandedGrandchildren() {
+        mTreeAdapter.setExpanded(0, true);
+        mTreeAdapter.setExpanded(1, true);
+        DataObserver observer = registerMockDataObserver();
+        mRootAdapter.change(0, 1, null);
+        verify(observer).onItemRangeChanged(0, 1, null);
+        verifyNoMoreInteractions(observer);
+        assertThat(mTreeAdapter.isExpanded(1)).isTrue();
+        assertThat(mTreeAdapter.getItemCount()).isEqualTo(7);
+    }
+
+    @Test
+    public void nestedHolderPositionIsTranslated() {
+        mTreeAdapter.setExpanded(0, true);
+        View view = new View(RuntimeEnvironment.application);
+        mTreeAdapter.bindView(mContainer, view, holder(2), emptyList());
+        ArgumentCaptor<Holder> captor = ArgumentCaptor.forClass(Holder.class);
+        verify(mChildAdapters.get(0)).bindView(any(Container.class), eq(view), captor.capture(), anyList());
+        assertThat(captor.getValue().getPosition()).isEqualTo(1);
+        assertThat(mTreeAdapter.getPosition(captor.getValue())).isEqualTo(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getPositionRejectsForeignHolder() {
+        mTreeAdapter.getPosition(holder(0));
+    }
+
+    @Test
+    public void unregistersFromNestedAdaptersWhenLastObserverUnregisters() {
+        NestedTreeAdapter treeAdapter = new NestedTreeAdapter(mRootAdapter, mChildSupplier);
+        DataObserver observer = mock(DataObserver.class);
+        treeAdapter.registerDataObserver(observer);
+        treeAdapter.setExpanded(0, true);
+        treeAdapter.setExpanded(1, true);
+        treeAdapter.unregisterDataObserver(observer);
+        ArgumentCaptor<DataObserver> captor = ArgumentCaptor.forClass(DataObserver.class);
+        verify(mGrandchildAdapters.get(0)).registerDataObserver(captor.capture());
+        verify(mGrandchildAdapters.get(0)).unregisterDataObserver(eq(captor.getValue()));
+    }
+
+    @NonNull
+    private DataObserver registerMockDataObserver() {
+        DataObserver observer = mock(DataObserver.class);
+        mTreeAdapter.registerDataObserver(observer);
+        return observer;
+    }
+}
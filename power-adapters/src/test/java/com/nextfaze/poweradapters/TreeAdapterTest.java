@@ -1,5 +1,6 @@
 package com.nextfaze.poweradapters;
 
+import android.os.Parcel;
 import android.os.Parcelable;
 import android.view.View;
 import android.view.ViewGroup;
@@ -152,6 +153,55 @@ public final class TreeAdapterTest {
         verifyingObserver.assertItemCountConsistent();
     }
 
+    @Test
+    public void hasStableIdsIsFalseByDefault() {
+        assertThat(createStableIdTreeAdapter().hasStableIds()).isFalse();
+    }
+
+    @Test
+    public void stableIdsAreUniqueAcrossRootAndChildItems() {
+        TreeAdapter treeAdapter = createStableIdTreeAdapter();
+        treeAdapter.setStableIds(true);
+        treeAdapter.registerDataObserver(mock(DataObserver.class));
+        treeAdapter.setAllExpanded(true);
+        assertThat(treeAdapter.hasStableIds()).isTrue();
+        assertThat(treeAdapter.getItemCount()).isEqualTo(6);
+        List<Long> itemIds = newArrayList();
+        for (int i = 0; i < treeAdapter.getItemCount(); i++) {
+            itemIds.add(treeAdapter.getItemId(i));
+        }
+        assertThat(itemIds).containsNoDuplicates();
+        assertThat(itemIds).doesNotContain(PowerAdapter.NO_ID);
+    }
+
+    @Test
+    public void stableIdsOfChildItemsSurviveCollapseOfPrecedingItem() {
+        TreeAdapter treeAdapter = createStableIdTreeAdapter();
+        treeAdapter.setStableIds(true);
+        treeAdapter.registerDataObserver(mock(DataObserver.class));
+        treeAdapter.setAllExpanded(true);
+        long itemId = treeAdapter.getItemId(5);
+        treeAdapter.setExpanded(0, false);
+        assertThat(treeAdapter.getItemId(3)).isEqualTo(itemId);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void setStableIdsWhileObservedThrows() {
+        TreeAdapter treeAdapter = createStableIdTreeAdapter();
+        treeAdapter.registerDataObserver(mock(DataObserver.class));
+        treeAdapter.setStableIds(true);
+    }
+
+    @Test
+    public void entriesAreOnlyAllocatedForExpandedItems() {
+        mTreeAdapter.setAllExpanded(false);
+        assertThat(mTreeAdapter.mEntries).isEmpty();
+        mTreeAdapter.setExpanded(1, true);
+        assertThat(mTreeAdapter.mEntries).hasSize(1);
+        mTreeAdapter.setExpanded(1, false);
+        assertThat(mTreeAdapter.mEntries).isEmpty();
+    }
+
     @Test
     public void expansionStateIsCorrect0() {
         mTreeAdapter.setAllExpanded(false);
@@ -730,6 +780,22 @@ public final class TreeAdapterTest {
         verifyNoMoreInteractions(observer);
     }
 
+    @Test
+    public void rootMoveIsTranslatedWhenExpandedChildCountsDiffer() {
+        mTreeAdapter.setExpanded(1, false);
+        DataObserver observer = registerMockDataObserver();
+        mRootAdapter.move(0, 1, 1);
+        verify(observer).onItemRangeMoved(0, 1, 4);
+        verifySubAdapterAllGetCalls()
+                .checkRange(mRootAdapter, 0, 1)
+                .checkRange(mRootAdapter, 1, 1)
+                .checkRange(mChildAdapters.get(0), 0, 3)
+                .checkRange(mRootAdapter, 2, 1)
+                .checkRange(mChildAdapters.get(2), 0, 3)
+                .verify(mTreeAdapter);
+        verifyNoMoreInteractions(observer);
+    }
+
     // TODO: After every type of root change, check that get*() calls map correctly.
 
     @Test
@@ -915,6 +981,35 @@ public final class TreeAdapterTest {
         assertThat(treeAdapter2.isExpanded(2)).isTrue();
     }
 
+    @Test
+    public void stateSurvivesParceling() {
+        FakeLongAdapter rootAdapter = new FakeLongAdapter();
+        Collections.addAll(rootAdapter, 9L, 3L, 7L, 1L);
+        ChildAdapterSupplier childAdapterSupplier = new ChildAdapterSupplier() {
+            @NonNull
+            @Override
+            public PowerAdapter get(int position) {
+                return new FakeAdapter(2);
+            }
+        };
+        TreeAdapter treeAdapter = new TreeAdapter(rootAdapter, childAdapterSupplier);
+        treeAdapter.setExpanded(0, true);
+        treeAdapter.setExpanded(1, true);
+        treeAdapter.setExpanded(3, true);
+        treeAdapter.setExpanded(1, false);
+        Parcel parcel = Parcel.obtain();
+        parcel.writeParcelable(treeAdapter.saveInstanceState(), 0);
+        parcel.setDataPosition(0);
+        Parcelable state = parcel.readParcelable(TreeAdapter.class.getClassLoader());
+        parcel.recycle();
+        TreeAdapter treeAdapter2 = new TreeAdapter(rootAdapter, childAdapterSupplier);
+        treeAdapter2.restoreInstanceState(state);
+        assertThat(treeAdapter2.isExpanded(0)).isTrue();
+        assertThat(treeAdapter2.isExpanded(1)).isFalse();
+        assertThat(treeAdapter2.isExpanded(2)).isFalse();
+        assertThat(treeAdapter2.isExpanded(3)).isTrue();
+    }
+
     @Test
     public void restoreStateWorksWithObserverRegistered() {
         final List<FakeAdapter> childAdapters = newArrayList(
@@ -962,6 +1057,22 @@ public final class TreeAdapterTest {
         }
     }
 
+    /** Creates a tree with two root items, each with the same two child item IDs. */
+    @NonNull
+    private static TreeAdapter createStableIdTreeAdapter() {
+        FakeLongAdapter rootAdapter = new FakeLongAdapter();
+        Collections.addAll(rootAdapter, 1L, 2L);
+        return new TreeAdapter(rootAdapter, new ChildAdapterSupplier() {
+            @NonNull
+            @Override
+            public PowerAdapter get(int position) {
+                FakeLongAdapter childAdapter = new FakeLongAdapter();
+                Collections.addAll(childAdapter, 1L, 2L);
+                return childAdapter;
+            }
+        });
+    }
+
     @NonNull
     private DataObserver registerMockDataObserver() {
         DataObserver observer = mock(DataObserver.class);
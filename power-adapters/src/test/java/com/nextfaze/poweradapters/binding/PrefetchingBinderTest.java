@@ -0,0 +1,172 @@
+package com.nextfaze.poweradapters.binding;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.nextfaze.poweradapters.Container;
+import com.nextfaze.poweradapters.Holder;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.Collections.emptyList;
+
+@RunWith(RobolectricTestRunner.class)
+public final class PrefetchingBinderTest {
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    @Mock
+    private Container mContainer;
+
+    @Mock
+    private Holder mHolder;
+
+    private final List<Runnable> mTasks = new ArrayList<>();
+
+    private final Executor mExecutor = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable runnable) {
+            mTasks.add(runnable);
+        }
+    };
+
+    private View mView;
+
+    private TestBinder mBinder;
+
+    @Before
+    public void setUp() throws Exception {
+        mView = new View(RuntimeEnvironment.application);
+        mBinder = new TestBinder(2);
+    }
+
+    @Test
+    public void prefetchPreparesOnExecutor() {
+        mBinder.prefetch("a", 0);
+        assertThat(mBinder.mPrepareCalls).isEmpty();
+        runTasks();
+        assertThat(mBinder.mPrepareCalls).containsExactly("a");
+        bind("a");
+        assertThat(mBinder.mPrepareCalls).containsExactly("a");
+        assertThat(mBinder.mBoundPrepared).isEqualTo("prepared a");
+    }
+
+    @Test
+    public void prefetchOfItemBeingPreparedIgnored() {
+        mBinder.prefetch("a", 0);
+        mBinder.prefetch("a", 0);
+        assertThat(mTasks).hasSize(1);
+    }
+
+    @Test
+    public void prefetchOfPreparedItemIgnored() {
+        mBinder.prefetch("a", 0);
+        runTasks();
+        mBinder.prefetch("a", 0);
+        assertThat(mTasks).isEmpty();
+    }
+
+    @Test
+    public void bindBeforePreparedPreparesSynchronously() {
+        mBinder.prefetch("a", 0);
+        bind("a");
+        assertThat(mBinder.mPrepareCalls).containsExactly("a");
+        assertThat(mBinder.mBoundPrepared).isEqualTo("prepared a");
+    }
+
+    @Test
+    public void bindWithoutPrefetchCachesPreparedResult() {
+        bind("a");
+        bind("a");
+        assertThat(mBinder.mPrepareCalls).containsExactly("a");
+    }
+
+    @Test
+    public void leastRecentlyUsedPreparedResultEvicted() {
+        bind("a");
+        bind("b");
+        bind("a");
+        bind("c");
+        bind("a");
+        assertThat(mBinder.mPrepareCalls).containsExactly("a", "b", "c").inOrder();
+        bind("b");
+        assertThat(mBinder.mPrepareCalls).containsExactly("a", "b", "c", "b").inOrder();
+    }
+
+    @Test
+    public void clearPreparedDiscardsPreparedResults() {
+        bind("a");
+        mBinder.clearPrepared();
+        bind("a");
+        assertThat(mBinder.mPrepareCalls).containsExactly("a", "a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveMaxPreparedThrows() {
+        new TestBinder(0);
+    }
+
+    private void bind(@NonNull String item) {
+        mBinder.bindView(mContainer, item, mView, mHolder, emptyList());
+    }
+
+    private void runTasks() {
+        List<Runnable> tasks = new ArrayList<>(mTasks);
+        mTasks.clear();
+        for (Runnable task : tasks) {
+            task.run();
+        }
+    }
+
+    private final class TestBinder extends PrefetchingBinder<String, View, String> {
+
+        final List<String> mPrepareCalls = new ArrayList<>();
+
+        String mBoundPrepared;
+
+        TestBinder(int maxPrepared) {
+            super(mExecutor, maxPrepared);
+        }
+
+        @NonNull
+        @Override
+        public View newView(@NonNull ViewGroup parent) {
+            return new View(parent.getContext());
+        }
+
+        @NonNull
+        @Override
+        protected String prepare(@NonNull String s) {
+            mPrepareCalls.add(s);
+            return "prepared " + s;
+        }
+
+        @Override
+        protected void bindView(
+                @NonNull Container container,
+                @NonNull String s,
+                @NonNull View v,
+                @NonNull Holder holder,
+                @NonNull List<Object> payloads,
+                @NonNull String prepared
+        ) {
+            mBoundPrepared = prepared;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.nextfaze.poweradapters.binding;
+
+import android.os.Build;
+import android.view.View;
+import android.widget.TextView;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.verify;
+
+@RunWith(RobolectricTestRunner.class)
+public final class TextPrecomputerTest {
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    @Mock
+    private Binder<String, View> mBinder;
+
+    private final List<Runnable> mTasks = new ArrayList<>();
+
+    private final Executor mExecutor = new Executor() {
+        @Override
+        public void execute(@NonNull Runnable runnable) {
+            mTasks.add(runnable);
+        }
+    };
+
+    /** Items whose text has been requested, in order. */
+    private final List<String> mTextCalls = new ArrayList<>();
+
+    private TextPrecomputer<String> mTextPrecomputer;
+    private TextView mTextView;
+
+    @Before
+    public void setUp() throws Exception {
+        mTextPrecomputer = new TextPrecomputer<>(mExecutor, new TextPrecomputer.TextFunction<String>() {
+            @NonNull
+            @Override
+            public CharSequence getText(@NonNull String s) {
+                mTextCalls.add(s);
+                return "text " + s;
+            }
+        });
+        mTextView = new TextView(RuntimeEnvironment.application);
+    }
+
+    @Config(sdk = Build.VERSION_CODES.P)
+    @Test
+    public void setTextOfUnprefetchedItemUsesTextFunction() {
+        mTextPrecomputer.setText(mTextView, "a");
+        assertThat(mTextView.getText().toString()).isEqualTo("text a");
+        assertThat(mTextCalls).containsExactly("a");
+    }
+
+    @Config(sdk = Build.VERSION_CODES.P)
+    @Test
+    public void prefetchBeforeStylingKnownIgnored() {
+        mTextPrecomputer.prefetch("a");
+        assertThat(mTasks).isEmpty();
+    }
+
+    @Config(sdk = Build.VERSION_CODES.P)
+    @Test
+    public void prefetchPrecomputesOnExecutor() {
+        mTextPrecomputer.setText(mTextView, "a");
+        mTextCalls.clear();
+        mTextPrecomputer.prefetch("b");
+        assertThat(mTextCalls).isEmpty();
+        runTasks();
+        assertThat(mTextCalls).containsExactly("b");
+    }
+
+    @Config(sdk = Build.VERSION_CODES.P)
+    @Test
+    public void prefetchOfItemBeingPrecomputedIgnored() {
+        mTextPrecomputer.setText(mTextView, "a");
+        mTextPrecomputer.prefetch("b");
+        mTextPrecomputer.prefetch("b");
+        assertThat(mTasks).hasSize(1);
+    }
+
+    @Config(sdk = Build.VERSION_CODES.P)
+    @Test
+    public void setTextOfPrefetchedItemUsesCachedText() {
+        mTextPrecomputer.setText(mTextView, "a");
+        mTextPrecomputer.prefetch("b");
+        runTasks();
+        mTextCalls.clear();
+        mTextPrecomputer.setText(mTextView, "b");
+        assertThat(mTextView.getText().toString()).isEqualTo("text b");
+        assertThat(mTextCalls).isEmpty();
+    }
+
+    @Config(sdk = Build.VERSION_CODES.P)
+    @Test
+    public void prefetchOfCachedItemIgnored() {
+        mTextPrecomputer.setText(mTextView, "a");
+        mTextPrecomputer.prefetch("b");
+        runTasks();
+        mTextPrecomputer.prefetch("b");
+        assertThat(mTasks).isEmpty();
+    }
+
+    @Config(sdk = Build.VERSION_CODES.P)
+    @Test
+    public void clearDiscardsCachedText() {
+        mTextPrecomputer.setText(mTextView, "a");
+        mTextPrecomputer.prefetch("b");
+        runTasks();
+        mTextPrecomputer.clear();
+        mTextCalls.clear();
+        mTextPrecomputer.setText(mTextView, "b");
+        assertThat(mTextCalls).containsExactly("b");
+    }
+
+    @Config(sdk = Build.VERSION_CODES.P)
+    @Test
+    public void wrappedBinderPrefetchPrecomputesAndDelegates() {
+        mTextPrecomputer.setText(mTextView, "a");
+        mTextPrecomputer.wrap(mBinder).prefetch("b", 3);
+        assertThat(mTasks).hasSize(1);
+        verify(mBinder).prefetch("b", 3);
+    }
+
+    @Config(sdk = Build.VERSION_CODES.O_MR1)
+    @Test
+    public void precomputedTextUnavailableFallsBackToPlainText() {
+        mTextPrecomputer.setText(mTextView, "a");
+        mTextPrecomputer.prefetch("a");
+        assertThat(mTasks).isEmpty();
+        mTextPrecomputer.setText(mTextView, "a");
+        assertThat(mTextView.getText().toString()).isEqualTo("text a");
+        assertThat(mTextCalls).containsExactly("a", "a");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveMaxTextsThrows() {
+        new TextPrecomputer<>(mExecutor, new TextPrecomputer.TextFunction<Object>() {
+            @NonNull
+            @Override
+            public CharSequence getText(@NonNull Object o) {
+                return "";
+            }
+        }, 0);
+    }
+
+    private void runTasks() {
+        List<Runnable> tasks = new ArrayList<>(mTasks);
+        mTasks.clear();
+        for (Runnable task : tasks) {
+            task.run();
+        }
+    }
+}
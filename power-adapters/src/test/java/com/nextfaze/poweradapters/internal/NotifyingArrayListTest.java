@@ -0,0 +1,134 @@
+package com.nextfaze.poweradapters.internal;
+
+import com.nextfaze.poweradapters.ChangePayloadFunction;
+import com.nextfaze.poweradapters.DataObserver;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.util.Arrays;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public final class NotifyingArrayListTest {
+
+    private static final Object UPPER_CASE = new Object();
+
+    private static final ChangePayloadFunction<String> UPPER_CASE_PAYLOAD = new ChangePayloadFunction<String>() {
+        @Override
+        public Object getChangePayload(@NonNull String oldItem, @NonNull String newItem) {
+            return newItem.equals(oldItem.toUpperCase()) ? UPPER_CASE : null;
+        }
+    };
+
+    @Rule
+    public MockitoRule mMockito = MockitoJUnit.rule();
+
+    @Mock
+    private DataObserver mObserver;
+
+    private NotifyingArrayList<String> mList;
+
+    @Before
+    public void setUp() throws Exception {
+        DataObservable dataObservable = new DataObservable();
+        dataObservable.registerObserver(mObserver);
+        mList = new NotifyingArrayList<>(dataObservable);
+        mList.addAll(Arrays.asList("a", "b", "c", "d", "e", "f"));
+        reset(mObserver);
+    }
+
+    @Test
+    public void moveForward() {
+        mList.move(1, 3, 2);
+        assertThat(mList).containsExactly("a", "d", "e", "b", "c", "f").inOrder();
+        verify(mObserver).onItemRangeMoved(1, 3, 2);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void moveBackward() {
+        mList.move(3, 0, 3);
+        assertThat(mList).containsExactly("d", "e", "f", "a", "b", "c").inOrder();
+        verify(mObserver).onItemRangeMoved(3, 0, 3);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void moveSingleElementToEnd() {
+        mList.move(0, 5, 1);
+        assertThat(mList).containsExactly("b", "c", "d", "e", "f", "a").inOrder();
+        verify(mObserver).onItemRangeMoved(0, 5, 1);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void setAllSplitsChangesByPayload() {
+        mList.setChangePayloadFunction(UPPER_CASE_PAYLOAD);
+        mList.setAll(1, Arrays.asList("B", "C", "x", "E"));
+        verify(mObserver).onItemRangeChanged(1, 2, UPPER_CASE);
+        verify(mObserver).onItemRangeChanged(3, 1, null);
+        verify(mObserver).onItemRangeChanged(4, 1, UPPER_CASE);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void replaceAllWithDiffPassesPayload() {
+        mList.setChangePayloadFunction(UPPER_CASE_PAYLOAD);
+        mList.replaceAllWithDiff(Arrays.asList("a", "b", "C", "d", "e", "f"));
+        verify(mObserver).onItemRangeChanged(2, 1, UPPER_CASE);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test
+    public void setWithoutPayloadFunction() {
+        mList.set(0, "A");
+        verify(mObserver).onItemRangeChanged(0, 1, null);
+        verifyNoMoreInteractions(mObserver);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void moveRejectsNonPositiveCount() {
+        mList.move(0, 1, 0);
+    }
+
+    @Test
+    public void snapshotIsUnaffectedByLaterModifications() {
+        List<String> snapshot = mList.snapshot();
+        mList.set(0, "A");
+        mList.remove(5);
+        mList.add("g");
+        mList.move(0, 1, 1);
+        assertThat(snapshot).containsExactly("a", "b", "c", "d", "e", "f").inOrder();
+        assertThat(mList).containsExactly("b", "A", "c", "d", "e", "g").inOrder();
+    }
+
+    @Test
+    public void snapshotIsUnaffectedByClearAndReplaceAll() {
+        List<String> snapshot = mList.snapshot();
+        mList.clear();
+        List<String> snapshot2 = mList.snapshot();
+        mList.replaceAll(Arrays.asList("x", "y"));
+        List<String> snapshot3 = mList.snapshot();
+        mList.replaceAllWithDiff(Arrays.asList("x", "z"));
+        assertThat(snapshot).containsExactly("a", "b", "c", "d", "e", "f").inOrder();
+        assertThat(snapshot2).isEmpty();
+        assertThat(snapshot3).containsExactly("x", "y").inOrder();
+        assertThat(mList).containsExactly("x", "z").inOrder();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void snapshotIsImmutable() {
+        mList.snapshot().add("g");
+    }
+}